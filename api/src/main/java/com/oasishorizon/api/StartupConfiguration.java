@@ -0,0 +1,32 @@
+package com.oasishorizon.api;
+
+import java.lang.reflect.Method;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+@Configuration(proxyBeanMethods = false)
+public class StartupConfiguration {
+  // With spring.main.lazy-initialization, request-path beans are created on first use. Beans
+  // that poll or react to events (version tracking, cache invalidation, replica health,
+  // partition upkeep) must still start with the context.
+  @Bean
+  static LazyInitializationExcludeFilter backgroundBeans() {
+    return (beanName, beanDefinition, beanType) -> {
+      if (beanType == null) {
+        return false;
+      }
+      for (Method method : ReflectionUtils.getUniqueDeclaredMethods(beanType)) {
+        if (AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)
+            || AnnotatedElementUtils.hasAnnotation(method, EventListener.class)) {
+          return true;
+        }
+      }
+      return false;
+    };
+  }
+}
@@ -1,18 +1,103 @@
 package com.oasishorizon.api;
 
+import com.oasishorizon.api.db.ReplicaPool;
+import com.oasishorizon.api.seed.PolicySeedRunner;
+import com.oasishorizon.api.seed.PolicySeedStatus;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 public class StatusController {
+  private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+  private final DataSource dataSource;
+  private final ObjectProvider<ReplicaPool> replicaPool;
+  private final ObjectProvider<PolicySeedRunner> seedRunner;
+
+  public StatusController(
+      DataSource dataSource,
+      ObjectProvider<ReplicaPool> replicaPool,
+      ObjectProvider<PolicySeedRunner> seedRunner) {
+    this.dataSource = dataSource;
+    this.replicaPool = replicaPool;
+    this.seedRunner = seedRunner;
+  }
+
   @GetMapping("/health")
   public Map<String, String> health() {
     return Map.of("status", "ok");
   }
 
   @GetMapping("/ready")
-  public Map<String, String> ready() {
-    return Map.of("status", "ready");
+  public ResponseEntity<Map<String, Object>> ready() {
+    Map<String, Object> body = new LinkedHashMap<>();
+    HikariPoolMXBean pool = hikariPool();
+    if (pool != null) {
+      body.put(
+          "pool",
+          Map.of(
+              "active", pool.getActiveConnections(),
+              "idle", pool.getIdleConnections(),
+              "total", pool.getTotalConnections(),
+              "pending", pool.getThreadsAwaitingConnection()));
+    }
+    // Replicas are reported but never fail readiness; reads fall back to the primary.
+    replicaPool.ifAvailable(replicas -> body.put("replicas", replicas.status()));
+    // A requested seed runs in the background; hold traffic until it is done.
+    PolicySeedRunner seed = seedRunner.getIfAvailable();
+    if (seed != null
+        && seed.status() != PolicySeedStatus.DONE
+        && seed.status() != PolicySeedStatus.DISABLED) {
+      body.put("seed", seed.status().getValue());
+      return notReady(
+          body, seed.status() == PolicySeedStatus.FAILED ? "seed_failed" : "seeding");
+    }
+    // A saturated pool would park this probe for the full connection timeout; report it instead.
+    if (pool != null
+        && pool.getIdleConnections() == 0
+        && pool.getThreadsAwaitingConnection() > 0) {
+      body.put("database", "unknown");
+      return notReady(body, "pool_saturated");
+    }
+    try (Connection connection = dataSource.getConnection()) {
+      if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+        body.put("database", "down");
+        return notReady(body, "database_unavailable");
+      }
+    } catch (SQLException ex) {
+      body.put("database", "down");
+      return notReady(body, "database_unavailable");
+    }
+    body.put("database", "up");
+    body.put("status", "ready");
+    return ResponseEntity.ok(body);
+  }
+
+  private static ResponseEntity<Map<String, Object>> notReady(
+      Map<String, Object> body, String reason) {
+    body.put("status", "not_ready");
+    body.put("reason", reason);
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(body);
+  }
+
+  private HikariPoolMXBean hikariPool() {
+    try {
+      if (dataSource.isWrapperFor(HikariDataSource.class)) {
+        return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+      }
+    } catch (SQLException ex) {
+      return null;
+    }
+    return null;
   }
 }
@@ -0,0 +1,209 @@
+package com.oasishorizon.api.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Producers only enqueue; one writer thread hands the sink a batch once batchSize records are
+// waiting or the oldest has waited flushInterval. A failed batch is retried until it is written,
+// so while the database is down the ring fills and offers are turned away instead.
+final class AuditBatcher<T> {
+  private static final Logger logger = LoggerFactory.getLogger(AuditBatcher.class);
+  private static final long OFFER_RETRY_NANOS = 50_000;
+  private static final long FIRST_RETRY_NANOS = Duration.ofMillis(100).toNanos();
+
+  private final String name;
+  private final AuditRingBuffer<T> buffer;
+  private final int batchSize;
+  private final long flushIntervalNanos;
+  private final long offerTimeoutNanos;
+  private final long maxRetryBackoffNanos;
+  private final Consumer<List<T>> sink;
+  private final AtomicInteger activeOffers = new AtomicInteger();
+  private final Counter accepted;
+  private final Counter dropped;
+  private final Counter written;
+  private final Counter writeFailures;
+  private final Timer flushes;
+
+  private volatile boolean accepting;
+  private volatile boolean running;
+  private volatile Thread writer;
+
+  AuditBatcher(
+      String name, AuditProperties properties, Consumer<List<T>> sink, MeterRegistry registry) {
+    this.name = name;
+    this.buffer = new AuditRingBuffer<>(properties.bufferCapacity());
+    this.batchSize = Math.max(1, Math.min(properties.batchSize(), properties.bufferCapacity()));
+    this.flushIntervalNanos = properties.flushInterval().toNanos();
+    this.offerTimeoutNanos = properties.offerTimeout().toNanos();
+    this.maxRetryBackoffNanos =
+        Math.max(FIRST_RETRY_NANOS, properties.maxRetryBackoff().toNanos());
+    this.sink = sink;
+    this.accepted = records(registry, "accepted");
+    this.dropped = records(registry, "dropped");
+    this.written = records(registry, "written");
+    this.writeFailures =
+        Counter.builder("oasis.audit.write.failures").tag("log", name).register(registry);
+    this.flushes = Timer.builder("oasis.audit.flush").tag("log", name).register(registry);
+    Gauge.builder("oasis.audit.buffer.size", buffer, AuditRingBuffer::size)
+        .tag("log", name)
+        .register(registry);
+  }
+
+  synchronized void start() {
+    if (running) {
+      return;
+    }
+    running = true;
+    accepting = true;
+    writer = Thread.ofPlatform().name(name + "-audit-writer").daemon(true).start(this::run);
+  }
+
+  boolean isRunning() {
+    return running;
+  }
+
+  // False means the record was dropped: the ring stayed full for offerTimeout, or the log is
+  // stopping.
+  boolean offer(T record) {
+    activeOffers.incrementAndGet();
+    try {
+      if (accepting && enqueue(record)) {
+        accepted.increment();
+        return true;
+      }
+      dropped.increment();
+      return false;
+    } finally {
+      activeOffers.decrementAndGet();
+    }
+  }
+
+  // Stops accepting, lets in-progress offers finish, then waits for the writer to flush
+  // everything that was accepted.
+  synchronized void stop(Duration timeout) {
+    if (!running) {
+      return;
+    }
+    accepting = false;
+    while (activeOffers.get() > 0) {
+      Thread.onSpinWait();
+    }
+    running = false;
+    Thread thread = writer;
+    LockSupport.unpark(thread);
+    try {
+      thread.join(timeout.toMillis());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    if (thread.isAlive()) {
+      logger.warn(
+          "Audit writer {} did not drain within {}; {} records still buffered.",
+          name,
+          timeout,
+          buffer.size());
+    }
+  }
+
+  private boolean enqueue(T record) {
+    if (buffer.offer(record)) {
+      signalIfBatchReady();
+      return true;
+    }
+    if (offerTimeoutNanos <= 0) {
+      return false;
+    }
+    // Backpressure: wake the writer and retry until it frees space or the timeout passes.
+    long deadline = System.nanoTime() + offerTimeoutNanos;
+    LockSupport.unpark(writer);
+    while (accepting && System.nanoTime() < deadline) {
+      LockSupport.parkNanos(OFFER_RETRY_NANOS);
+      if (buffer.offer(record)) {
+        signalIfBatchReady();
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void signalIfBatchReady() {
+    if (buffer.size() >= batchSize) {
+      LockSupport.unpark(writer);
+    }
+  }
+
+  private void run() {
+    List<T> batch = new ArrayList<>(batchSize);
+    long flushAt = 0;
+    while (true) {
+      boolean stopping = !running;
+      buffer.drainTo(batch, batchSize - batch.size());
+      long now = System.nanoTime();
+      if (batch.isEmpty()) {
+        if (stopping) {
+          return;
+        }
+        LockSupport.parkNanos(this, flushIntervalNanos);
+        continue;
+      }
+      if (flushAt == 0) {
+        flushAt = now + flushIntervalNanos;
+      }
+      if (batch.size() >= batchSize || now - flushAt >= 0 || stopping) {
+        write(batch);
+        batch.clear();
+        flushAt = 0;
+      } else {
+        LockSupport.parkNanos(this, flushAt - now);
+      }
+    }
+  }
+
+  // Backs off from FIRST_RETRY_NANOS, doubling up to maxRetryBackoff; stop() cuts a wait short.
+  private void write(List<T> batch) {
+    long backoffNanos = FIRST_RETRY_NANOS;
+    for (int attempt = 1; ; attempt++) {
+      try {
+        flushes.record(() -> sink.accept(batch));
+        written.increment(batch.size());
+        if (attempt > 1) {
+          logger.info("Wrote {} {} audit records after {} attempts.", batch.size(), name, attempt);
+        }
+        return;
+      } catch (RuntimeException ex) {
+        writeFailures.increment();
+        if (attempt == 1) {
+          logger.error(
+              "Failed to write {} {} audit records; retrying.", batch.size(), name, ex);
+        } else {
+          logger.warn(
+              "Attempt {} to write {} {} audit records failed: {}",
+              attempt,
+              batch.size(),
+              name,
+              ex.toString());
+        }
+        LockSupport.parkNanos(this, backoffNanos);
+        backoffNanos = Math.min(backoffNanos * 2, maxRetryBackoffNanos);
+      }
+    }
+  }
+
+  private Counter records(MeterRegistry registry, String outcome) {
+    return Counter.builder("oasis.audit.records")
+        .tag("log", name)
+        .tag("outcome", outcome)
+        .register(registry);
+  }
+}
@@ -0,0 +1,15 @@
+package com.oasishorizon.api.audit;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "oasis.audit")
+public record AuditProperties(
+    @DefaultValue("8192") int bufferCapacity,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("200ms") Duration flushInterval,
+    @DefaultValue("0ms") Duration offerTimeout,
+    @DefaultValue("10s") Duration shutdownTimeout,
+    @DefaultValue("5s") Duration maxRetryBackoff,
+    @DefaultValue("7") int partitionDaysAhead) {}
@@ -0,0 +1,79 @@
+package com.oasishorizon.api.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Bounded multi-producer, single-consumer ring. Each slot's sequence says whose turn it is:
+// equal to a producer's claimed position when free, position + 1 once published, and
+// position + capacity after the consumer takes it. Producers claim positions with a CAS, so
+// offer never blocks and fails fast when the ring is full.
+final class AuditRingBuffer<T> {
+  private final int capacity;
+  private final int mask;
+  private final AtomicReferenceArray<T> items;
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail = new AtomicLong();
+  private final AtomicLong head = new AtomicLong();
+
+  AuditRingBuffer(int capacity) {
+    if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+    }
+    this.capacity = capacity;
+    this.mask = capacity - 1;
+    this.items = new AtomicReferenceArray<>(capacity);
+    this.sequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  boolean offer(T item) {
+    long position = tail.get();
+    while (true) {
+      int index = (int) position & mask;
+      long lag = sequences.get(index) - position;
+      if (lag == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          items.set(index, item);
+          sequences.set(index, position + 1);
+          return true;
+        }
+        position = tail.get();
+      } else if (lag < 0) {
+        return false;
+      } else {
+        position = tail.get();
+      }
+    }
+  }
+
+  // Only one thread may drain at a time.
+  int drainTo(List<T> sink, int limit) {
+    long position = head.get();
+    int drained = 0;
+    while (drained < limit) {
+      int index = (int) position & mask;
+      if (sequences.get(index) != position + 1) {
+        break;
+      }
+      sink.add(items.get(index));
+      items.set(index, null);
+      sequences.set(index, position + capacity);
+      position++;
+      drained++;
+    }
+    head.set(position);
+    return drained;
+  }
+
+  int size() {
+    return (int) Math.max(0, tail.get() - head.get());
+  }
+
+  int capacity() {
+    return capacity;
+  }
+}
@@ -0,0 +1,37 @@
+package com.oasishorizon.api.audit;
+
+import com.oasishorizon.api.audit.dto.CopilotAuditRequest;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/copilot/audit")
+public class CopilotAuditController {
+  private final CopilotAuditLog auditLog;
+
+  public CopilotAuditController(CopilotAuditLog auditLog) {
+    this.auditLog = auditLog;
+  }
+
+  @PostMapping
+  @ResponseStatus(HttpStatus.ACCEPTED)
+  public void record(@Valid @RequestBody CopilotAuditRequest request) {
+    CopilotAuditKind kind;
+    try {
+      kind = CopilotAuditKind.fromParameter(request.kind());
+    } catch (IllegalArgumentException ex) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "Unsupported audit kind: " + request.kind());
+    }
+    if (!auditLog.record(kind, request.prompt(), request.response(), request.policyTermId())) {
+      throw new ResponseStatusException(
+          HttpStatus.SERVICE_UNAVAILABLE, "Audit log is saturated");
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.oasishorizon.api.audit;
+
+import java.util.Locale;
+
+public enum CopilotAuditKind {
+  NL_FILTERS,
+  POLICY_SUMMARY;
+
+  public String getValue() {
+    return name().toLowerCase(Locale.US);
+  }
+
+  public static CopilotAuditKind fromParameter(String value) {
+    return valueOf(value.trim().toUpperCase(Locale.US));
+  }
+}
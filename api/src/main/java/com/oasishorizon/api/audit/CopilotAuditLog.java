@@ -0,0 +1,75 @@
+package com.oasishorizon.api.audit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Request threads only enqueue; rows reach copilot_audit_log in JDBC batches from the writer
+// thread, which the driver rewrites into multi-row INSERTs (reWriteBatchedInserts).
+@Component
+public class CopilotAuditLog implements SmartLifecycle {
+  private static final String INSERT =
+      "INSERT INTO copilot_audit_log "
+          + "(id, occurred_at, kind, prompt, response, policy_term_id) "
+          + "VALUES (?, ?, ?, ?, ?, ?)";
+
+  private final AuditProperties properties;
+  private final JdbcTemplate jdbcTemplate;
+  private final AuditBatcher<CopilotAuditRecord> batcher;
+
+  public CopilotAuditLog(
+      AuditProperties properties, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.jdbcTemplate = jdbcTemplate;
+    this.batcher = new AuditBatcher<>("copilot", properties, this::insert, meterRegistry);
+  }
+
+  public boolean record(
+      CopilotAuditKind kind, String prompt, String response, UUID policyTermId) {
+    return batcher.offer(
+        new CopilotAuditRecord(
+            UUID.randomUUID(), Instant.now(), kind, prompt, response, policyTermId));
+  }
+
+  @Override
+  public void start() {
+    batcher.start();
+  }
+
+  @Override
+  public void stop() {
+    batcher.stop(properties.shutdownTimeout());
+  }
+
+  @Override
+  public boolean isRunning() {
+    return batcher.isRunning();
+  }
+
+  // Stops after the web server (which stops at SMART_LIFECYCLE_DEFAULT_PHASE - 1024), so
+  // in-flight requests can still enqueue, and before the DataSource closes.
+  @Override
+  public int getPhase() {
+    return DEFAULT_PHASE - 2048;
+  }
+
+  private void insert(List<CopilotAuditRecord> batch) {
+    jdbcTemplate.batchUpdate(
+        INSERT,
+        batch,
+        batch.size(),
+        (statement, record) -> {
+          statement.setObject(1, record.id());
+          statement.setTimestamp(2, Timestamp.from(record.occurredAt()));
+          statement.setString(3, record.kind().getValue());
+          statement.setString(4, record.prompt());
+          statement.setString(5, record.response());
+          statement.setObject(6, record.policyTermId());
+        });
+  }
+}
@@ -0,0 +1,42 @@
+package com.oasishorizon.api.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Keeps day partitions created ahead of time so inserts never land in the default partition.
+@Component
+public class CopilotAuditPartitions {
+  private static final Logger logger = LoggerFactory.getLogger(CopilotAuditPartitions.class);
+  private static final String ENSURE_PARTITIONS =
+      "SELECT copilot_audit_log_ensure_partitions((now() AT TIME ZONE 'UTC')::date, ?)";
+
+  private final AuditProperties properties;
+  private final JdbcTemplate jdbcTemplate;
+
+  public CopilotAuditPartitions(AuditProperties properties, JdbcTemplate jdbcTemplate) {
+    this.properties = properties;
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      fixedDelayString = "${oasis.audit.partition-check-interval:PT1H}",
+      initialDelayString = "${oasis.audit.partition-check-interval:PT1H}")
+  public void ensurePartitions() {
+    try {
+      Integer created =
+          jdbcTemplate.queryForObject(
+              ENSURE_PARTITIONS, Integer.class, properties.partitionDaysAhead() + 1);
+      if (created != null && created > 0) {
+        logger.info("Created {} copilot audit log partitions.", created);
+      }
+    } catch (RuntimeException ex) {
+      logger.warn("Failed to create copilot audit log partitions.", ex);
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package com.oasishorizon.api.audit;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record CopilotAuditRecord(
+    UUID id,
+    Instant occurredAt,
+    CopilotAuditKind kind,
+    String prompt,
+    String response,
+    UUID policyTermId) {}
@@ -0,0 +1,12 @@
+package com.oasishorizon.api.audit.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.UUID;
+
+public record CopilotAuditRequest(
+    @NotBlank String kind,
+    @NotBlank @Size(max = 20000) String prompt,
+    @NotNull @Size(max = 100000) String response,
+    UUID policyTermId) {}
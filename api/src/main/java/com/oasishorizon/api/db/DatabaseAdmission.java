@@ -0,0 +1,101 @@
+package com.oasishorizon.api.db;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DatabaseAdmission {
+  private static final int DEFAULT_CONCURRENCY = 10;
+
+  private final boolean enabled;
+  private final Semaphore permits;
+  private final int maxQueue;
+  private final Duration maxWait;
+  private final AtomicInteger waiting = new AtomicInteger();
+  private final Counter rejected;
+
+  public DatabaseAdmission(
+      DatabaseAdmissionProperties properties,
+      DataSource dataSource,
+      MeterRegistry meterRegistry) {
+    this.enabled = properties.enabled();
+    int concurrency =
+        properties.maxConcurrency() > 0 ? properties.maxConcurrency() : poolSize(dataSource);
+    this.permits = new Semaphore(concurrency, true);
+    this.maxQueue = properties.maxQueue();
+    this.maxWait = properties.maxWait();
+    this.rejected = meterRegistry.counter("oasis.db.admission.rejected");
+    Gauge.builder("oasis.db.admission.waiting", waiting, AtomicInteger::get)
+        .register(meterRegistry);
+    Gauge.builder("oasis.db.admission.available", permits, Semaphore::availablePermits)
+        .register(meterRegistry);
+  }
+
+  public <T> T call(Supplier<T> work) {
+    if (!enabled) {
+      return work.get();
+    }
+    acquire();
+    try {
+      return work.get();
+    } finally {
+      permits.release();
+    }
+  }
+
+  public void run(Runnable work) {
+    call(
+        () -> {
+          work.run();
+          return null;
+        });
+  }
+
+  private void acquire() {
+    if (permits.tryAcquire()) {
+      return;
+    }
+    if (waiting.incrementAndGet() > maxQueue) {
+      waiting.decrementAndGet();
+      throw reject("Database admission queue is full");
+    }
+    boolean acquired;
+    try {
+      acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      acquired = false;
+    } finally {
+      waiting.decrementAndGet();
+    }
+    if (!acquired) {
+      throw reject("Timed out waiting for a database slot");
+    }
+  }
+
+  private DatabaseBusyException reject(String message) {
+    rejected.increment();
+    return new DatabaseBusyException(message);
+  }
+
+  private static int poolSize(DataSource dataSource) {
+    try {
+      if (dataSource.isWrapperFor(HikariDataSource.class)) {
+        return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+      }
+    } catch (SQLException ex) {
+      // Fall through to the default when the pool cannot be inspected.
+    }
+    return DEFAULT_CONCURRENCY;
+  }
+}
@@ -0,0 +1,12 @@
+package com.oasishorizon.api.db;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "oasis.db-admission")
+public record DatabaseAdmissionProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("0") int maxConcurrency,
+    @DefaultValue("200") int maxQueue,
+    @DefaultValue("2s") Duration maxWait) {}
@@ -0,0 +1,11 @@
+package com.oasishorizon.api.db;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE, reason = "Database is busy, retry shortly")
+public class DatabaseBusyException extends RuntimeException {
+  public DatabaseBusyException(String message) {
+    super(message);
+  }
+}
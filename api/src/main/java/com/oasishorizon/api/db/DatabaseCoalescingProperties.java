@@ -0,0 +1,9 @@
+package com.oasishorizon.api.db;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "oasis.db-coalescing")
+public record DatabaseCoalescingProperties(
+    @DefaultValue("true") boolean enabled, @DefaultValue("5s") Duration timeout) {}
@@ -0,0 +1,6 @@
+package com.oasishorizon.api.db;
+
+public enum ReplicaBalancing {
+  ROUND_ROBIN,
+  LEAST_CONNECTIONS
+}
@@ -0,0 +1,163 @@
+package com.oasishorizon.api.db;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class ReplicaPool implements AutoCloseable {
+  private static final Logger logger = LoggerFactory.getLogger(ReplicaPool.class);
+  private static final String CHECK_TIMEOUT_SECONDS = "2";
+  // A standby that has replayed everything it received is current; otherwise its lag is the age
+  // of the last replayed transaction. A primary used as a stand-in reports no lag.
+  private static final String LAG_QUERY =
+      "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 "
+          + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+          + "ELSE coalesce(extract(epoch FROM clock_timestamp() "
+          + "- pg_last_xact_replay_timestamp()), 0) END";
+
+  private final List<Replica> replicas;
+  private final ReplicaBalancing balancing;
+  private final Duration maxLag;
+  private final AtomicInteger next = new AtomicInteger();
+
+  public ReplicaPool(
+      List<HikariDataSource> pools,
+      ReplicaBalancing balancing,
+      Duration maxLag,
+      MeterRegistry meterRegistry) {
+    this.replicas = pools.stream().map(Replica::new).toList();
+    this.balancing = balancing;
+    this.maxLag = maxLag;
+    for (Replica replica : replicas) {
+      Gauge.builder("oasis.db.replica.lag", replica, Replica::lagSeconds)
+          .tag("replica", replica.name())
+          .baseUnit("seconds")
+          .register(meterRegistry);
+      Gauge.builder("oasis.db.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+          .tag("replica", replica.name())
+          .register(meterRegistry);
+    }
+  }
+
+  public Optional<Connection> borrow() {
+    for (Replica replica : candidates()) {
+      try {
+        return Optional.of(replica.pool.getConnection());
+      } catch (SQLException ex) {
+        replica.healthy = false;
+        logger.warn("Replica {} is unavailable: {}", replica.name(), ex.getMessage());
+      }
+    }
+    return Optional.empty();
+  }
+
+  @Scheduled(fixedDelayString = "${oasis.replicas.health-check-interval:PT5S}")
+  public void checkHealth() {
+    for (Replica replica : replicas) {
+      boolean wasHealthy = replica.healthy;
+      replica.check(maxLag);
+      if (wasHealthy != replica.healthy) {
+        logger.info(
+            "Replica {} is now {} (lag {} s).",
+            replica.name(),
+            replica.healthy ? "in rotation" : "out of rotation",
+            replica.lagSeconds);
+      }
+    }
+  }
+
+  public Map<String, Object> status() {
+    Map<String, Object> status = new LinkedHashMap<>();
+    for (Replica replica : replicas) {
+      status.put(
+          replica.name(),
+          Map.of(
+              "healthy", replica.healthy,
+              "lagSeconds", replica.lagSeconds,
+              "active", replica.activeConnections()));
+    }
+    return status;
+  }
+
+  @Override
+  public void close() {
+    replicas.forEach(replica -> replica.pool.close());
+  }
+
+  private List<Replica> candidates() {
+    List<Replica> healthy = replicas.stream().filter(replica -> replica.healthy).toList();
+    if (healthy.size() < 2) {
+      return healthy;
+    }
+    return switch (balancing) {
+      case ROUND_ROBIN -> {
+        List<Replica> rotated = new ArrayList<>(healthy);
+        Collections.rotate(rotated, -Math.floorMod(next.getAndIncrement(), healthy.size()));
+        yield rotated;
+      }
+      case LEAST_CONNECTIONS ->
+          healthy.stream().sorted(Comparator.comparingInt(Replica::activeConnections)).toList();
+    };
+  }
+
+  private static final class Replica {
+    private final HikariDataSource pool;
+    private volatile boolean healthy;
+    private volatile double lagSeconds = Double.NaN;
+
+    private Replica(HikariDataSource pool) {
+      this.pool = pool;
+    }
+
+    private String name() {
+      return pool.getPoolName();
+    }
+
+    private double lagSeconds() {
+      return lagSeconds;
+    }
+
+    private int activeConnections() {
+      HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+      return bean == null ? 0 : bean.getActiveConnections() + bean.getThreadsAwaitingConnection();
+    }
+
+    // Checks over a dedicated connection so a saturated pool is not mistaken for a lagging node.
+    private void check(Duration maxLag) {
+      Properties properties = new Properties();
+      properties.setProperty("user", pool.getUsername());
+      properties.setProperty("password", pool.getPassword());
+      properties.setProperty("connectTimeout", CHECK_TIMEOUT_SECONDS);
+      properties.setProperty("socketTimeout", CHECK_TIMEOUT_SECONDS);
+      try (Connection connection = DriverManager.getConnection(pool.getJdbcUrl(), properties);
+          Statement statement = connection.createStatement();
+          ResultSet result = statement.executeQuery(LAG_QUERY)) {
+        result.next();
+        lagSeconds = result.getDouble(1);
+        healthy = lagSeconds * 1_000 <= maxLag.toMillis();
+      } catch (SQLException ex) {
+        lagSeconds = Double.NaN;
+        healthy = false;
+      }
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package com.oasishorizon.api.db;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "oasis.replicas")
+public record ReplicaProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue List<Node> nodes,
+    @DefaultValue("round_robin") ReplicaBalancing balancing,
+    @DefaultValue("2s") Duration maxLag,
+    @DefaultValue("5s") Duration healthCheckInterval) {
+
+  // Username and password default to the primary's.
+  public record Node(String url, String username, String password) {}
+}
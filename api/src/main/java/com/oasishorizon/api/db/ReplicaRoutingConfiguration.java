@@ -0,0 +1,79 @@
+package com.oasishorizon.api.db;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+// Read-only transactions go to replicas, everything else to the primary. The lazy proxy defers
+// borrowing until the first statement, after the transaction has marked itself read-only.
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "oasis.replicas", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfiguration {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  @Bean
+  public ReplicaPool replicaPool(
+      ReplicaProperties properties,
+      @Qualifier("primaryDataSource") DataSource primary,
+      MeterRegistry meterRegistry)
+      throws SQLException {
+    HikariDataSource primaryPool = primary.unwrap(HikariDataSource.class);
+    List<HikariDataSource> pools = new ArrayList<>();
+    for (int i = 0; i < properties.nodes().size(); i++) {
+      ReplicaProperties.Node node = properties.nodes().get(i);
+      HikariConfig config = new HikariConfig();
+      primaryPool.copyStateTo(config);
+      config.setPoolName("replica-" + i);
+      config.setJdbcUrl(node.url());
+      config.setUsername(Objects.requireNonNullElse(node.username(), primaryPool.getUsername()));
+      config.setPassword(Objects.requireNonNullElse(node.password(), primaryPool.getPassword()));
+      config.setReadOnly(true);
+      // An unreachable replica must not fail startup; it stays out of rotation until healthy.
+      config.setInitializationFailTimeout(-1);
+      if (config.getMetricRegistry() == null && config.getMetricsTrackerFactory() == null) {
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+      }
+      pools.add(new HikariDataSource(config));
+    }
+    return new ReplicaPool(pools, properties.balancing(), properties.maxLag(), meterRegistry);
+  }
+
+  @Bean
+  public DataSource replicaDataSource(
+      ReplicaPool replicaPool,
+      @Qualifier("primaryDataSource") DataSource primary,
+      MeterRegistry meterRegistry)
+      throws SQLException {
+    return new ReplicaRoutingDataSource(
+        replicaPool, primary.unwrap(HikariDataSource.class), meterRegistry);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      @Qualifier("primaryDataSource") DataSource primary,
+      @Qualifier("replicaDataSource") DataSource replicas) {
+    LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+    dataSource.setReadOnlyDataSource(replicas);
+    return dataSource;
+  }
+}
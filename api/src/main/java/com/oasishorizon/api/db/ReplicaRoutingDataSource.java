@@ -0,0 +1,38 @@
+package com.oasishorizon.api.db;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+  private final ReplicaPool replicas;
+  private final DataSource primary;
+  private final Counter fallbacks;
+
+  public ReplicaRoutingDataSource(
+      ReplicaPool replicas, DataSource primary, MeterRegistry meterRegistry) {
+    this.replicas = replicas;
+    this.primary = primary;
+    this.fallbacks = meterRegistry.counter("oasis.db.replica.fallback");
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    Optional<Connection> replica = replicas.borrow();
+    if (replica.isPresent()) {
+      return replica.get();
+    }
+    fallbacks.increment();
+    return primary.getConnection();
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    throw new SQLFeatureNotSupportedException("Replica routing uses the configured credentials");
+  }
+}
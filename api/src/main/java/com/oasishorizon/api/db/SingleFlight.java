@@ -0,0 +1,95 @@
+package com.oasishorizon.api.db;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// Concurrent calls with an equal key share the first caller's execution. The map only holds the
+// pending future, so no lock is held while the work runs.
+public class SingleFlight<K, V> {
+  private final boolean enabled;
+  private final long timeoutNanos;
+  private final Map<K, InFlight<V>> inFlight = new ConcurrentHashMap<>();
+  private final Counter executed;
+  private final Counter collapsed;
+  private final Counter timedOut;
+
+  public SingleFlight(
+      String operation, DatabaseCoalescingProperties properties, MeterRegistry meterRegistry) {
+    this.enabled = properties.enabled();
+    this.timeoutNanos = properties.timeout().toNanos();
+    this.executed = calls(meterRegistry, operation, "executed");
+    this.collapsed = calls(meterRegistry, operation, "collapsed");
+    this.timedOut = calls(meterRegistry, operation, "timed_out");
+    Gauge.builder("oasis.db.coalescing.in_flight", inFlight, Map::size)
+        .tag("operation", operation)
+        .register(meterRegistry);
+  }
+
+  public V execute(K key, Supplier<V> work) {
+    if (!enabled) {
+      return work.get();
+    }
+    InFlight<V> call = new InFlight<>(new CompletableFuture<>(), System.nanoTime());
+    InFlight<V> existing = inFlight.putIfAbsent(key, call);
+    if (existing == null) {
+      return lead(key, call, work);
+    }
+    // Each key's execution has a deadline; callers that would outlive it run on their own.
+    long remaining = timeoutNanos - (System.nanoTime() - existing.startedAt());
+    if (remaining <= 0) {
+      timedOut.increment();
+      executed.increment();
+      return work.get();
+    }
+    collapsed.increment();
+    try {
+      return existing.result().get(remaining, TimeUnit.NANOSECONDS);
+    } catch (TimeoutException ex) {
+      timedOut.increment();
+      executed.increment();
+      return work.get();
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (ex.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(ex.getCause());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for a shared call", ex);
+    }
+  }
+
+  private V lead(K key, InFlight<V> call, Supplier<V> work) {
+    executed.increment();
+    try {
+      V value = work.get();
+      call.result().complete(value);
+      return value;
+    } catch (RuntimeException | Error ex) {
+      call.result().completeExceptionally(ex);
+      throw ex;
+    } finally {
+      inFlight.remove(key, call);
+    }
+  }
+
+  private static Counter calls(MeterRegistry meterRegistry, String operation, String outcome) {
+    return Counter.builder("oasis.db.coalescing.calls")
+        .tag("operation", operation)
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  private record InFlight<V>(CompletableFuture<V> result, long startedAt) {}
+}
@@ -0,0 +1,54 @@
+package com.oasishorizon.api.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// Times each connection borrow and hands out connections that count statement executions, so
+// per-request statement counts include JdbcTemplate and raw JDBC work as well as Hibernate's.
+class ConnectionWaitTrackingDataSource extends DelegatingDataSource {
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+
+  ConnectionWaitTrackingDataSource(DataSource target, ObjectProvider<MeterRegistry> meterRegistry) {
+    super(target);
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    long startedAt = System.nanoTime();
+    try {
+      return StatementCountingConnection.wrap(super.getConnection());
+    } finally {
+      record(System.nanoTime() - startedAt);
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    long startedAt = System.nanoTime();
+    try {
+      return StatementCountingConnection.wrap(super.getConnection(username, password));
+    } finally {
+      record(System.nanoTime() - startedAt);
+    }
+  }
+
+  private void record(long nanos) {
+    RequestMetrics.addConnectionWait(nanos);
+    MeterRegistry registry = meterRegistry.getIfAvailable();
+    if (registry != null) {
+      Timer.builder("oasis.db.connection.acquire")
+          .tag("endpoint", RequestMetrics.currentEndpoint())
+          .tag("sort", RequestMetrics.currentSort())
+          .publishPercentileHistogram()
+          .register(registry)
+          .record(nanos, TimeUnit.NANOSECONDS);
+    }
+  }
+}
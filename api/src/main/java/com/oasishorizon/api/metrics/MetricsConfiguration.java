@@ -0,0 +1,71 @@
+package com.oasishorizon.api.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class MetricsConfiguration implements WebMvcConfigurer {
+  private final MeterRegistry meterRegistry;
+
+  public MetricsConfiguration(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry
+        .addInterceptor(new RequestMetricsInterceptor(meterRegistry))
+        .addPathPatterns("/api/**");
+  }
+
+  @Bean
+  public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(
+      ObjectMapper objectMapper) {
+    return new TimedJackson2HttpMessageConverter(objectMapper);
+  }
+
+  @Bean
+  public MappingJackson2CborHttpMessageConverter mappingJackson2CborHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new TimedCborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+  }
+
+  @Bean
+  public MappingJackson2SmileHttpMessageConverter mappingJackson2SmileHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new TimedSmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+  }
+
+  @Bean
+  public static BeanPostProcessor connectionWaitTracking(
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        // A lazy proxy only hands out handles. The DataSource beans behind it are wrapped instead:
+        // the primary pool and, with replicas, the routing DataSource that borrows from the
+        // replica pools, so replica borrows are timed and counted there.
+        if (bean instanceof DataSource dataSource
+            && !(bean instanceof ConnectionWaitTrackingDataSource)
+            && !(bean instanceof LazyConnectionDataSourceProxy)) {
+          return new ConnectionWaitTrackingDataSource(dataSource, meterRegistry);
+        }
+        return bean;
+      }
+    };
+  }
+}
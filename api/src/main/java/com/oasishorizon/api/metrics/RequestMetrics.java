@@ -0,0 +1,90 @@
+package com.oasishorizon.api.metrics;
+
+import java.util.Optional;
+
+public final class RequestMetrics {
+  private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+
+  private final String endpoint;
+  private final long startedAt;
+  private String sort = "none";
+  private int statements;
+  private long rows;
+  private long connectionWaitNanos;
+  private long serializationNanos;
+
+  private RequestMetrics(String endpoint) {
+    this.endpoint = endpoint;
+    this.startedAt = System.nanoTime();
+  }
+
+  static RequestMetrics start(String endpoint) {
+    RequestMetrics metrics = new RequestMetrics(endpoint);
+    CURRENT.set(metrics);
+    return metrics;
+  }
+
+  static Optional<RequestMetrics> current() {
+    return Optional.ofNullable(CURRENT.get());
+  }
+
+  static void clear() {
+    CURRENT.remove();
+  }
+
+  public static void tagSort(String sortField) {
+    current().ifPresent(metrics -> metrics.sort = sortField);
+  }
+
+  public static void addRows(long count) {
+    current().ifPresent(metrics -> metrics.rows += count);
+  }
+
+  public static void addSerialization(long nanos) {
+    current().ifPresent(metrics -> metrics.serializationNanos += nanos);
+  }
+
+  static void addStatement() {
+    current().ifPresent(metrics -> metrics.statements++);
+  }
+
+  static void addConnectionWait(long nanos) {
+    current().ifPresent(metrics -> metrics.connectionWaitNanos += nanos);
+  }
+
+  static String currentEndpoint() {
+    return current().map(metrics -> metrics.endpoint).orElse("background");
+  }
+
+  static String currentSort() {
+    return current().map(metrics -> metrics.sort).orElse("none");
+  }
+
+  String endpoint() {
+    return endpoint;
+  }
+
+  String sort() {
+    return sort;
+  }
+
+  long elapsedNanos() {
+    return System.nanoTime() - startedAt;
+  }
+
+  int statements() {
+    return statements;
+  }
+
+  long rows() {
+    return rows;
+  }
+
+  long connectionWaitNanos() {
+    return connectionWaitNanos;
+  }
+
+  long serializationNanos() {
+    return serializationNanos;
+  }
+}
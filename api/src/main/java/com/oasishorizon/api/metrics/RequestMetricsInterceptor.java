@@ -0,0 +1,68 @@
+package com.oasishorizon.api.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+  private final MeterRegistry meterRegistry;
+
+  RequestMetricsInterceptor(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    RequestMetrics.start(
+        request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI()));
+    return true;
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    RequestMetrics.clear();
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    RequestMetrics.current().ifPresent(metrics -> record(metrics, response.getStatus()));
+    RequestMetrics.clear();
+  }
+
+  private void record(RequestMetrics metrics, int status) {
+    Tags tags = Tags.of("endpoint", metrics.endpoint(), "sort", metrics.sort());
+    Timer.builder("oasis.request.handling")
+        .tags(tags.and("status", Integer.toString(status)))
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(metrics.elapsedNanos(), TimeUnit.NANOSECONDS);
+    Timer.builder("oasis.request.serialization")
+        .tags(tags)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(metrics.serializationNanos(), TimeUnit.NANOSECONDS);
+    Timer.builder("oasis.request.connection.wait")
+        .tags(tags)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(metrics.connectionWaitNanos(), TimeUnit.NANOSECONDS);
+    DistributionSummary.builder("oasis.request.sql.statements")
+        .tags(tags)
+        .register(meterRegistry)
+        .record(metrics.statements());
+    DistributionSummary.builder("oasis.request.rows.fetched")
+        .tags(tags)
+        .register(meterRegistry)
+        .record(metrics.rows());
+  }
+}
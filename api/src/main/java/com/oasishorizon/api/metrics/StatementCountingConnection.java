@@ -0,0 +1,82 @@
+package com.oasishorizon.api.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+
+// Counts every statement execution on a connection, whichever client issued it (Hibernate,
+// JdbcTemplate or raw JDBC). A batch counts as one execution, matching one round trip.
+final class StatementCountingConnection implements InvocationHandler {
+  private final Connection target;
+
+  private StatementCountingConnection(Connection target) {
+    this.target = target;
+  }
+
+  static Connection wrap(Connection connection) {
+    return (Connection)
+        Proxy.newProxyInstance(
+            StatementCountingConnection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            new StatementCountingConnection(connection));
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    switch (method.getName()) {
+      case "equals":
+        return proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "toString":
+        return "StatementCounting[" + target + "]";
+      default:
+        break;
+    }
+    Object result = invokeOn(target, method, args);
+    if (result instanceof Statement statement
+        && Statement.class.isAssignableFrom(method.getReturnType())) {
+      return Proxy.newProxyInstance(
+          StatementCountingConnection.class.getClassLoader(),
+          new Class<?>[] {method.getReturnType()},
+          new CountingStatement(statement));
+    }
+    return result;
+  }
+
+  private static Object invokeOn(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException ex) {
+      throw ex.getTargetException();
+    }
+  }
+
+  private static final class CountingStatement implements InvocationHandler {
+    private final Statement target;
+
+    private CountingStatement(Statement target) {
+      this.target = target;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      String name = method.getName();
+      switch (name) {
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        default:
+          break;
+      }
+      if (name.startsWith("execute")) {
+        RequestMetrics.addStatement();
+      }
+      return invokeOn(target, method, args);
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.oasishorizon.api.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+class TimedSmileHttpMessageConverter extends MappingJackson2SmileHttpMessageConverter {
+  TimedSmileHttpMessageConverter(ObjectMapper objectMapper) {
+    super(objectMapper);
+  }
+
+  @Override
+  protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+      throws IOException {
+    long startedAt = System.nanoTime();
+    try {
+      super.writeInternal(object, type, outputMessage);
+    } finally {
+      RequestMetrics.addSerialization(System.nanoTime() - startedAt);
+    }
+  }
+}
@@ -1,6 +1,12 @@
 package com.oasishorizon.api.policy;
 
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-public interface PolicyRepository extends JpaRepository<Policy, UUID> {}
+public interface PolicyRepository extends JpaRepository<Policy, UUID> {
+  @Query("select max(p.updatedAt) from Policy p")
+  Optional<Instant> findMaxUpdatedAt();
+}
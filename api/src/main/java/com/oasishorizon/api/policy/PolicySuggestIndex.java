@@ -0,0 +1,337 @@
+package com.oasishorizon.api.policy;
+
+import com.oasishorizon.api.policy.dto.PolicyTermSuggestion;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// Sorted arrays of word-start suffixes over policy numbers and insured names. A key is a packed
+// long (policy ordinal << 32 | char offset) into the display strings, so each entry costs 8 bytes
+// and needs no normalized copy of the text.
+final class PolicySuggestIndex {
+  static final PolicySuggestIndex EMPTY =
+      new PolicySuggestIndex(
+          new long[0],
+          new String[0],
+          new String[0],
+          new int[1],
+          new long[0],
+          new long[0],
+          new long[0]);
+
+  private final long[] policyIds;
+  private final String[] policyNumbers;
+  private final String[] insuredNames;
+  private final int[] termOffsets;
+  private final long[] termIds;
+  private final long[] numberKeys;
+  private final long[] nameKeys;
+
+  private PolicySuggestIndex(
+      long[] policyIds,
+      String[] policyNumbers,
+      String[] insuredNames,
+      int[] termOffsets,
+      long[] termIds,
+      long[] numberKeys,
+      long[] nameKeys) {
+    this.policyIds = policyIds;
+    this.policyNumbers = policyNumbers;
+    this.insuredNames = insuredNames;
+    this.termOffsets = termOffsets;
+    this.termIds = termIds;
+    this.numberKeys = numberKeys;
+    this.nameKeys = nameKeys;
+  }
+
+  record Source(UUID id, String policyNumber, String insuredName, List<UUID> termIds) {}
+
+  int size() {
+    return policyNumbers.length;
+  }
+
+  int termCount() {
+    return termIds.length / 2;
+  }
+
+  // Policy number matches rank ahead of insured-name matches; each group is in key order, so
+  // exact and shorter matches come first.
+  List<PolicyTermSuggestion> suggest(String query, int limit) {
+    String prefix = normalizeQuery(query);
+    List<PolicyTermSuggestion> suggestions = new ArrayList<>(limit);
+    if (prefix.isEmpty()) {
+      return suggestions;
+    }
+    Set<Integer> seen = new HashSet<>();
+    collect(numberKeys, policyNumbers, prefix, "policyNumber", limit, seen, suggestions);
+    collect(nameKeys, insuredNames, prefix, "insuredName", limit, seen, suggestions);
+    return suggestions;
+  }
+
+  // Replaces every changed policy and appends new ones. Retained keys keep their order, so only
+  // the changed policies' keys are sorted before a linear merge.
+  PolicySuggestIndex merge(List<Source> changes) {
+    Set<UUID> changedIds = changes.stream().map(Source::id).collect(Collectors.toSet());
+    int[] remap = new int[size()];
+    int kept = 0;
+    int keptTerms = 0;
+    for (int ordinal = 0; ordinal < size(); ordinal++) {
+      if (changedIds.contains(policyId(ordinal))) {
+        remap[ordinal] = -1;
+      } else {
+        remap[ordinal] = kept++;
+        keptTerms += termOffsets[ordinal + 1] - termOffsets[ordinal];
+      }
+    }
+    int count = kept + changes.size();
+    int terms = keptTerms + changes.stream().mapToInt(source -> source.termIds().size()).sum();
+    long[] ids = new long[count * 2];
+    String[] numbers = new String[count];
+    String[] names = new String[count];
+    int[] offsets = new int[count + 1];
+    long[] termBits = new long[terms * 2];
+
+    for (int ordinal = 0; ordinal < size(); ordinal++) {
+      int target = remap[ordinal];
+      if (target < 0) {
+        continue;
+      }
+      ids[target * 2] = policyIds[ordinal * 2];
+      ids[target * 2 + 1] = policyIds[ordinal * 2 + 1];
+      numbers[target] = policyNumbers[ordinal];
+      names[target] = insuredNames[ordinal];
+      int from = termOffsets[ordinal];
+      int length = termOffsets[ordinal + 1] - from;
+      System.arraycopy(termIds, from * 2, termBits, offsets[target] * 2, length * 2);
+      offsets[target + 1] = offsets[target] + length;
+    }
+    int target = kept;
+    for (Source source : changes) {
+      ids[target * 2] = source.id().getMostSignificantBits();
+      ids[target * 2 + 1] = source.id().getLeastSignificantBits();
+      numbers[target] = source.policyNumber();
+      names[target] = source.insuredName();
+      int term = offsets[target];
+      for (UUID termId : source.termIds()) {
+        termBits[term * 2] = termId.getMostSignificantBits();
+        termBits[term * 2 + 1] = termId.getLeastSignificantBits();
+        term++;
+      }
+      offsets[target + 1] = term;
+      target++;
+    }
+
+    return new PolicySuggestIndex(
+        ids,
+        numbers,
+        names,
+        offsets,
+        termBits,
+        mergeKeys(numbers, remapKeys(numberKeys, remap), sortedKeys(numbers, kept, count)),
+        mergeKeys(names, remapKeys(nameKeys, remap), sortedKeys(names, kept, count)));
+  }
+
+  private void collect(
+      long[] keys,
+      String[] texts,
+      String prefix,
+      String matchedField,
+      int limit,
+      Set<Integer> seen,
+      List<PolicyTermSuggestion> suggestions) {
+    for (int i = lowerBound(keys, texts, prefix);
+        i < keys.length && suggestions.size() < limit;
+        i++) {
+      int ordinal = ordinal(keys[i]);
+      if (comparePrefix(texts[ordinal], offset(keys[i]), prefix) != 0) {
+        return;
+      }
+      if (seen.add(ordinal)) {
+        suggestions.add(toSuggestion(ordinal, matchedField));
+      }
+    }
+  }
+
+  private PolicyTermSuggestion toSuggestion(int ordinal, String matchedField) {
+    List<UUID> terms = new ArrayList<>(termOffsets[ordinal + 1] - termOffsets[ordinal]);
+    for (int term = termOffsets[ordinal]; term < termOffsets[ordinal + 1]; term++) {
+      terms.add(new UUID(termIds[term * 2], termIds[term * 2 + 1]));
+    }
+    return new PolicyTermSuggestion(
+        policyId(ordinal), policyNumbers[ordinal], insuredNames[ordinal], matchedField, terms);
+  }
+
+  private UUID policyId(int ordinal) {
+    return new UUID(policyIds[ordinal * 2], policyIds[ordinal * 2 + 1]);
+  }
+
+  private static int lowerBound(long[] keys, String[] texts, String prefix) {
+    int low = 0;
+    int high = keys.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (comparePrefix(texts[ordinal(keys[middle])], offset(keys[middle]), prefix) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  // Zero when the key starts with the (already folded) prefix.
+  private static int comparePrefix(String text, int offset, String prefix) {
+    int position = offset;
+    for (int i = 0; i < prefix.length(); i++, position++) {
+      if (position == text.length()) {
+        return -1;
+      }
+      int compared = Character.compare(fold(text.charAt(position)), prefix.charAt(i));
+      if (compared != 0) {
+        return compared;
+      }
+    }
+    return 0;
+  }
+
+  private static int compareKeys(String[] texts, long left, long right) {
+    String leftText = texts[ordinal(left)];
+    String rightText = texts[ordinal(right)];
+    int i = offset(left);
+    int j = offset(right);
+    while (i < leftText.length() && j < rightText.length()) {
+      int compared = Character.compare(fold(leftText.charAt(i++)), fold(rightText.charAt(j++)));
+      if (compared != 0) {
+        return compared;
+      }
+    }
+    return Integer.compare(leftText.length() - i, rightText.length() - j);
+  }
+
+  private static long[] sortedKeys(String[] texts, int fromOrdinal, int toOrdinal) {
+    long[] keys = new long[16];
+    int count = 0;
+    for (int ordinal = fromOrdinal; ordinal < toOrdinal; ordinal++) {
+      String text = texts[ordinal];
+      for (int offset = 0; offset < text.length(); offset++) {
+        if (isWordStart(text, offset)) {
+          if (count == keys.length) {
+            keys = Arrays.copyOf(keys, count * 2);
+          }
+          keys[count++] = key(ordinal, offset);
+        }
+      }
+    }
+    keys = Arrays.copyOf(keys, count);
+    sort(keys, texts);
+    return keys;
+  }
+
+  private static long[] remapKeys(long[] keys, int[] remap) {
+    long[] remapped = new long[keys.length];
+    int count = 0;
+    for (long key : keys) {
+      int target = remap[ordinal(key)];
+      if (target >= 0) {
+        remapped[count++] = key(target, offset(key));
+      }
+    }
+    return Arrays.copyOf(remapped, count);
+  }
+
+  // Changed keys are few, so each is placed by binary search and the retained keys between them
+  // are block-copied.
+  private static long[] mergeKeys(String[] texts, long[] retained, long[] changed) {
+    long[] merged = new long[retained.length + changed.length];
+    int copied = 0;
+    int position = 0;
+    for (long key : changed) {
+      int insertAt = insertionPoint(texts, retained, copied, key);
+      System.arraycopy(retained, copied, merged, position, insertAt - copied);
+      position += insertAt - copied;
+      copied = insertAt;
+      merged[position++] = key;
+    }
+    System.arraycopy(retained, copied, merged, position, retained.length - copied);
+    return merged;
+  }
+
+  private static int insertionPoint(String[] texts, long[] keys, int from, long key) {
+    int low = from;
+    int high = keys.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (compareKeys(texts, keys[middle], key) <= 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  // Bottom-up merge sort on the packed keys, avoiding a boxed Long[] per entry.
+  private static void sort(long[] keys, String[] texts) {
+    long[] buffer = new long[keys.length];
+    long[] source = keys;
+    long[] target = buffer;
+    for (int width = 1; width < keys.length; width *= 2) {
+      for (int from = 0; from < keys.length; from += width * 2) {
+        int middle = Math.min(from + width, keys.length);
+        int to = Math.min(from + width * 2, keys.length);
+        int i = from;
+        int j = middle;
+        int k = from;
+        while (i < middle && j < to) {
+          target[k++] = compareKeys(texts, source[i], source[j]) <= 0 ? source[i++] : source[j++];
+        }
+        while (i < middle) {
+          target[k++] = source[i++];
+        }
+        while (j < to) {
+          target[k++] = source[j++];
+        }
+      }
+      long[] swap = source;
+      source = target;
+      target = swap;
+    }
+    if (source != keys) {
+      System.arraycopy(source, 0, keys, 0, keys.length);
+    }
+  }
+
+  private static boolean isWordStart(String text, int offset) {
+    return Character.isLetterOrDigit(text.charAt(offset))
+        && (offset == 0 || !Character.isLetterOrDigit(text.charAt(offset - 1)));
+  }
+
+  static String normalizeQuery(String query) {
+    String trimmed = query == null ? "" : query.strip().replaceAll("\\s+", " ");
+    StringBuilder folded = new StringBuilder(trimmed.length());
+    for (int i = 0; i < trimmed.length(); i++) {
+      folded.append(fold(trimmed.charAt(i)));
+    }
+    return folded.toString();
+  }
+
+  private static char fold(char value) {
+    return Character.toLowerCase(value);
+  }
+
+  private static long key(int ordinal, int offset) {
+    return ((long) ordinal << 32) | offset;
+  }
+
+  private static int ordinal(long key) {
+    return (int) (key >>> 32);
+  }
+
+  private static int offset(long key) {
+    return (int) key;
+  }
+}
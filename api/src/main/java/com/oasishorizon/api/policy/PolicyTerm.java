@@ -12,6 +12,7 @@ import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Locale;
 import java.util.UUID;
 
 @Entity
@@ -83,8 +84,14 @@ public class PolicyTerm {
     this.updatedAt = updatedAt;
   }
 
+  public static String normalizeCode(String value) {
+    return value == null ? null : value.trim().toUpperCase(Locale.US);
+  }
+
   @PrePersist
   void onCreate() {
+    state = normalizeCode(state);
+    status = normalizeCode(status);
     Instant now = Instant.now();
     if (createdAt == null) {
       createdAt = now;
@@ -96,6 +103,8 @@ public class PolicyTerm {
 
   @PreUpdate
   void onUpdate() {
+    state = normalizeCode(state);
+    status = normalizeCode(status);
     updatedAt = Instant.now();
   }
 
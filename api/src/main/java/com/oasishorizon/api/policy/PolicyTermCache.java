@@ -0,0 +1,112 @@
+package com.oasishorizon.api.policy;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.oasishorizon.api.policy.dto.PolicyTermDetailResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PolicyTermCache {
+  private final boolean enabled;
+  private final Cache<DetailKey, PolicyTermDetailResponse> details;
+  private final Cache<PolicyTermSearchKey, PolicyTermSearchResult> pages;
+
+  public PolicyTermCache(PolicyTermCacheProperties properties, MeterRegistry meterRegistry) {
+    this.enabled = properties.enabled();
+    this.details =
+        Caffeine.newBuilder()
+            .maximumSize(properties.detailMaxSize())
+            .expireAfterWrite(properties.detailTtl())
+            .recordStats()
+            .build();
+    this.pages =
+        Caffeine.newBuilder()
+            .maximumSize(properties.pageMaxSize())
+            .expireAfterWrite(properties.pageTtl())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, details, "policyTermDetail");
+    CaffeineCacheMetrics.monitor(meterRegistry, pages, "policyTermPage");
+  }
+
+  Optional<PolicyTermDetailResponse> detail(
+      UUID termId,
+      PolicyTermDataVersion version,
+      Supplier<Optional<PolicyTermDetailResponse>> loader) {
+    if (!enabled) {
+      return loader.get();
+    }
+    DetailKey key = new DetailKey(termId, version);
+    PolicyTermDetailResponse cached = details.getIfPresent(key);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    // Misses are not cached so unknown ids can't crowd out real entries.
+    Optional<PolicyTermDetailResponse> loaded = loader.get();
+    loaded.ifPresent(detail -> details.put(key, detail));
+    return loaded;
+  }
+
+  Map<UUID, PolicyTermDetailResponse> details(
+      Set<UUID> termIds,
+      PolicyTermDataVersion version,
+      Function<Set<UUID>, List<PolicyTermDetailResponse>> loader) {
+    Map<UUID, PolicyTermDetailResponse> found = new HashMap<>();
+    Set<UUID> missing = new HashSet<>();
+    for (UUID termId : termIds) {
+      PolicyTermDetailResponse cached =
+          enabled ? details.getIfPresent(new DetailKey(termId, version)) : null;
+      if (cached != null) {
+        found.put(termId, cached);
+      } else {
+        missing.add(termId);
+      }
+    }
+    if (!missing.isEmpty()) {
+      for (PolicyTermDetailResponse detail : loader.apply(missing)) {
+        found.put(detail.id(), detail);
+        if (enabled) {
+          details.put(new DetailKey(detail.id(), version), detail);
+        }
+      }
+    }
+    return found;
+  }
+
+  PolicyTermSearchResult page(
+      PolicyTermSearchKey key, Function<PolicyTermSearchKey, PolicyTermSearchResult> loader) {
+    if (!enabled) {
+      return loader.apply(key);
+    }
+    // Not pages.get(key, loader): it blocks other keys in the same hash bin for the whole
+    // query. The service coalesces identical concurrent loads itself.
+    PolicyTermSearchResult cached = pages.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    PolicyTermSearchResult loaded = loader.apply(key);
+    pages.put(key, loaded);
+    return loaded;
+  }
+
+  @EventListener
+  public void onDataChanged(PolicyTermDataChangedEvent event) {
+    details.invalidateAll();
+    pages.invalidateAll();
+  }
+
+  // The version is part of every key so a load that races an invalidation is never reused.
+  record DetailKey(UUID termId, PolicyTermDataVersion version) {}
+}
@@ -0,0 +1,13 @@
+package com.oasishorizon.api.policy;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "oasis.cache")
+public record PolicyTermCacheProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("10000") long detailMaxSize,
+    @DefaultValue("10m") Duration detailTtl,
+    @DefaultValue("2000") long pageMaxSize,
+    @DefaultValue("30s") Duration pageTtl) {}
@@ -0,0 +1,152 @@
+package com.oasishorizon.api.policy;
+
+import com.oasishorizon.api.db.DatabaseAdmission;
+import com.oasishorizon.api.policy.dto.PolicyTermChangeResponse;
+import com.oasishorizon.api.policy.dto.PolicyTermChangesResponse;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Service
+public class PolicyTermChangeFeed {
+  // Sorts after every real id, so a tip position skips everything already at that timestamp.
+  private static final UUID MAX_ID = new UUID(-1L, -1L);
+
+  private final PolicyTermRepository policyTermRepository;
+  private final PolicyTermVersionTracker versionTracker;
+  private final DatabaseAdmission admission;
+  private final TransactionTemplate readOnlyTransaction;
+  private final PolicyTermChangesProperties properties;
+  private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+  // Sends block on slow clients, so they run here rather than on the shared scheduler thread
+  // that also drives the version tracker, replica lag checks and audit partitions.
+  private final ExecutorService pushExecutor =
+      Executors.newThreadPerTaskExecutor(
+          Thread.ofVirtual().name("policy-change-push-", 0).factory());
+
+  public PolicyTermChangeFeed(
+      PolicyTermRepository policyTermRepository,
+      PolicyTermVersionTracker versionTracker,
+      DatabaseAdmission admission,
+      PlatformTransactionManager transactionManager,
+      PolicyTermChangesProperties properties) {
+    this.policyTermRepository = policyTermRepository;
+    this.versionTracker = versionTracker;
+    this.admission = admission;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.properties = properties;
+  }
+
+  public PolicyTermChangesResponse changes(Optional<PolicyTermChangeToken> after, int limit) {
+    // Rows younger than the settle delay are held back so a writer that commits late with an
+    // earlier updated_at cannot land behind a token that was already handed out.
+    Instant until = Instant.now().minus(properties.settleDelay());
+    List<PolicyTermChangeResponse> rows =
+        admission.call(
+            () ->
+                readOnlyTransaction.execute(
+                    status -> policyTermRepository.findChanges(after, until, limit + 1)));
+    boolean hasMore = rows.size() > limit;
+    List<PolicyTermChangeResponse> items = hasMore ? rows.subList(0, limit) : rows;
+    Optional<PolicyTermChangeToken> next =
+        items.isEmpty() ? after : Optional.of(tokenOf(items.get(items.size() - 1)));
+    return new PolicyTermChangesResponse(
+        items, hasMore, next.map(PolicyTermChangeToken::encode).orElse(null));
+  }
+
+  public SseEmitter subscribe(Optional<PolicyTermChangeToken> after) {
+    SseEmitter emitter = new SseEmitter(properties.streamTimeout().toMillis());
+    PolicyTermChangeToken position =
+        after.orElseGet(
+            () -> new PolicyTermChangeToken(versionTracker.current().latestUpdate(), MAX_ID));
+    Subscription subscription = new Subscription(emitter, position);
+    subscriptions.add(subscription);
+    emitter.onCompletion(() -> subscriptions.remove(subscription));
+    emitter.onTimeout(emitter::complete);
+    emitter.onError(ex -> subscriptions.remove(subscription));
+    return emitter;
+  }
+
+  @Scheduled(fixedDelayString = "${oasis.changes.poll-interval:PT2S}")
+  public void push() {
+    if (subscriptions.isEmpty()) {
+      return;
+    }
+    Instant latest = versionTracker.current().latestUpdate();
+    for (Subscription subscription : subscriptions) {
+      // A subscriber still draining from an earlier tick is skipped until it finishes.
+      boolean behind = subscription.backlog || subscription.position.updatedAt().isBefore(latest);
+      if (behind && subscription.draining.compareAndSet(false, true)) {
+        pushExecutor.execute(
+            () -> {
+              try {
+                drain(subscription);
+              } finally {
+                subscription.draining.set(false);
+              }
+            });
+      }
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    pushExecutor.shutdownNow();
+  }
+
+  // At most streamPagesPerPush pages per tick, so a subscriber far behind catches up over
+  // several ticks instead of holding a database slot for the whole backlog.
+  private void drain(Subscription subscription) {
+    try {
+      for (int page = 0; page < properties.streamPagesPerPush(); page++) {
+        PolicyTermChangesResponse batch =
+            changes(Optional.of(subscription.position), properties.streamBatchSize());
+        for (PolicyTermChangeResponse change : batch.items()) {
+          PolicyTermChangeToken token = tokenOf(change);
+          subscription.emitter.send(
+              SseEmitter.event().id(token.encode()).name("change").data(change));
+          subscription.position = token;
+        }
+        if (!batch.hasMore()) {
+          subscription.backlog = false;
+          return;
+        }
+      }
+      // Rows left at the tip's own timestamp would not look behind on the next tick.
+      subscription.backlog = true;
+    } catch (IOException | IllegalStateException ex) {
+      subscriptions.remove(subscription);
+      subscription.emitter.completeWithError(ex);
+    }
+  }
+
+  private static PolicyTermChangeToken tokenOf(PolicyTermChangeResponse change) {
+    return new PolicyTermChangeToken(change.updatedAt(), change.id());
+  }
+
+  private static final class Subscription {
+    private final SseEmitter emitter;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile PolicyTermChangeToken position;
+    private volatile boolean backlog;
+
+    private Subscription(SseEmitter emitter, PolicyTermChangeToken position) {
+      this.emitter = emitter;
+      this.position = position;
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package com.oasishorizon.api.policy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+public record PolicyTermChangeToken(Instant updatedAt, UUID id) {
+  private static final String SEPARATOR = "\n";
+
+  public String encode() {
+    String raw =
+        String.join(
+            SEPARATOR,
+            Long.toString(updatedAt.getEpochSecond()),
+            Integer.toString(updatedAt.getNano()),
+            id.toString());
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static PolicyTermChangeToken decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = raw.split(SEPARATOR, 3);
+      if (parts.length != 3) {
+        throw new IllegalArgumentException("Malformed change token");
+      }
+      return new PolicyTermChangeToken(
+          Instant.ofEpochSecond(Long.parseLong(parts[0]), Integer.parseInt(parts[1])),
+          UUID.fromString(parts[2]));
+    } catch (RuntimeException ex) {
+      throw new IllegalArgumentException("Malformed change token", ex);
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package com.oasishorizon.api.policy;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "oasis.changes")
+public record PolicyTermChangesProperties(
+    @DefaultValue("5s") Duration settleDelay,
+    @DefaultValue("2s") Duration pollInterval,
+    @DefaultValue("30m") Duration streamTimeout,
+    @DefaultValue("500") int streamBatchSize,
+    @DefaultValue("4") int streamPagesPerPush) {}
@@ -0,0 +1,108 @@
+package com.oasishorizon.api.policy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oasishorizon.api.metrics.RequestMetrics;
+import com.oasishorizon.api.policy.dto.PolicyTermColumnarPageResponse;
+import com.oasishorizon.api.policy.dto.PolicyTermColumns;
+import com.oasishorizon.api.policy.dto.PolicyTermDictionaryColumn;
+import com.oasishorizon.api.policy.dto.PolicyTermPageResponse;
+import com.oasishorizon.api.policy.dto.PolicyTermSummaryResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+// Writes list pages as one array per field, with state and status dictionary-encoded.
+@Component
+public class PolicyTermColumnarHttpMessageConverter
+    extends AbstractHttpMessageConverter<PolicyTermPageResponse> {
+  public static final String COLUMNAR_JSON_VALUE = "application/vnd.oasis.columnar+json";
+  public static final MediaType COLUMNAR_JSON = MediaType.parseMediaType(COLUMNAR_JSON_VALUE);
+
+  private final ObjectMapper objectMapper;
+
+  public PolicyTermColumnarHttpMessageConverter(ObjectMapper objectMapper) {
+    super(COLUMNAR_JSON);
+    this.objectMapper = objectMapper;
+  }
+
+  public static PolicyTermColumnarPageResponse toColumnar(PolicyTermPageResponse page) {
+    List<PolicyTermSummaryResponse> items = page.items();
+    PolicyTermColumns columns =
+        new PolicyTermColumns(
+            column(items, PolicyTermSummaryResponse::id),
+            column(items, PolicyTermSummaryResponse::policyNumber),
+            column(items, PolicyTermSummaryResponse::insuredName),
+            items.stream().mapToInt(PolicyTermSummaryResponse::termNumber).toArray(),
+            dictionaryColumn(items, PolicyTermSummaryResponse::state),
+            dictionaryColumn(items, PolicyTermSummaryResponse::status),
+            column(items, PolicyTermSummaryResponse::effectiveFromDate),
+            column(items, PolicyTermSummaryResponse::effectiveToDate),
+            column(items, PolicyTermSummaryResponse::balanceDue),
+            column(items, PolicyTermSummaryResponse::nextDueDate),
+            column(items, PolicyTermSummaryResponse::lastPaymentDate));
+    return new PolicyTermColumnarPageResponse(
+        items.size(),
+        columns,
+        page.page(),
+        page.size(),
+        page.totalElements(),
+        page.totalPages(),
+        page.totalStrategy(),
+        page.nextCursor());
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return PolicyTermPageResponse.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  public boolean canRead(Class<?> clazz, MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected PolicyTermPageResponse readInternal(
+      Class<? extends PolicyTermPageResponse> clazz, HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException("Columnar pages are write-only", inputMessage);
+  }
+
+  @Override
+  protected void writeInternal(PolicyTermPageResponse page, HttpOutputMessage outputMessage)
+      throws IOException {
+    long startedAt = System.nanoTime();
+    try {
+      objectMapper.writeValue(outputMessage.getBody(), toColumnar(page));
+    } finally {
+      RequestMetrics.addSerialization(System.nanoTime() - startedAt);
+    }
+  }
+
+  private static <T> List<T> column(
+      List<PolicyTermSummaryResponse> items, Function<PolicyTermSummaryResponse, T> field) {
+    List<T> values = new ArrayList<>(items.size());
+    for (PolicyTermSummaryResponse item : items) {
+      values.add(field.apply(item));
+    }
+    return values;
+  }
+
+  private static PolicyTermDictionaryColumn dictionaryColumn(
+      List<PolicyTermSummaryResponse> items, Function<PolicyTermSummaryResponse, String> field) {
+    Map<String, Integer> codes = new LinkedHashMap<>();
+    int[] encoded = new int[items.size()];
+    for (int row = 0; row < items.size(); row++) {
+      encoded[row] = codes.computeIfAbsent(field.apply(items.get(row)), value -> codes.size());
+    }
+    return new PolicyTermDictionaryColumn(List.copyOf(codes.keySet()), encoded);
+  }
+}
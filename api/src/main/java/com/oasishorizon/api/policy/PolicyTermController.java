@@ -1,26 +1,55 @@
 package com.oasishorizon.api.policy;
 
+import com.oasishorizon.api.metrics.RequestMetrics;
+import com.oasishorizon.api.policy.dto.PolicyTermBatchItem;
+import com.oasishorizon.api.policy.dto.PolicyTermBatchRequest;
+import com.oasishorizon.api.policy.dto.PolicyTermBatchResponse;
+import com.oasishorizon.api.policy.dto.PolicyTermChangesResponse;
 import com.oasishorizon.api.policy.dto.PolicyTermDetailResponse;
+import com.oasishorizon.api.policy.dto.PolicyTermFacetsResponse;
 import com.oasishorizon.api.policy.dto.PolicyTermPageResponse;
+import com.oasishorizon.api.policy.dto.PolicyTermPlanRequest;
+import com.oasishorizon.api.policy.dto.PolicyTermPlanResponse;
+import com.oasishorizon.api.policy.dto.PolicyTermSuggestResponse;
 import com.oasishorizon.api.policy.dto.PolicyTermSummaryResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/policy-terms")
@@ -33,9 +62,9 @@ public class PolicyTermController {
           "effective_from_date",
           "effectiveFromDate",
           "policy_number",
-          "policy.policyNumber",
+          "policyNumber",
           "insured_name",
-          "policy.insuredName",
+          "insuredName",
           "state",
           "state",
           "status",
@@ -44,57 +73,327 @@ public class PolicyTermController {
           "termNumber");
 
   private final PolicyTermService policyTermService;
+  private final PolicyTermExporter policyTermExporter;
+  private final PolicyTermChangeFeed policyTermChangeFeed;
+  private final PolicyTermSuggester policyTermSuggester;
+  private final ContentNegotiationManager contentNegotiationManager;
 
-  public PolicyTermController(PolicyTermService policyTermService) {
+  public PolicyTermController(
+      PolicyTermService policyTermService,
+      PolicyTermExporter policyTermExporter,
+      PolicyTermChangeFeed policyTermChangeFeed,
+      PolicyTermSuggester policyTermSuggester,
+      ContentNegotiationManager contentNegotiationManager) {
     this.policyTermService = policyTermService;
+    this.policyTermExporter = policyTermExporter;
+    this.policyTermChangeFeed = policyTermChangeFeed;
+    this.policyTermSuggester = policyTermSuggester;
+    this.contentNegotiationManager = contentNegotiationManager;
   }
 
-  @GetMapping
+  // JSON stays first so wildcard Accept headers never select one of the compact formats.
+  @GetMapping(
+      produces = {
+        MediaType.APPLICATION_JSON_VALUE,
+        PolicyTermColumnarHttpMessageConverter.COLUMNAR_JSON_VALUE,
+        MediaType.APPLICATION_CBOR_VALUE,
+        "application/x-jackson-smile"
+      })
   public PolicyTermPageResponse listPolicyTerms(
       @RequestParam(name = "q", required = false) String query,
-      @RequestParam(name = "state", required = false) String state,
-      @RequestParam(name = "status", required = false) String status,
+      @RequestParam(name = "state", required = false) List<String> states,
+      @RequestParam(name = "status", required = false) List<String> statuses,
       @RequestParam(name = "exp_from", required = false)
           @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
           LocalDate expFrom,
       @RequestParam(name = "exp_to", required = false)
           @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
           LocalDate expTo,
+      @RequestParam(name = "date_field", defaultValue = "expiration") String dateField,
+      @RequestParam(name = "date_from", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate dateFrom,
+      @RequestParam(name = "date_to", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate dateTo,
       @RequestParam(defaultValue = "0") @Min(0) int page,
       @RequestParam(defaultValue = "20") @Min(1) @Max(200) int size,
-      @RequestParam(defaultValue = "effective_to_date,asc") String sort) {
+      @RequestParam(defaultValue = "effective_to_date,asc") String sort,
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "include_total", defaultValue = "true") boolean includeTotal,
+      NativeWebRequest webRequest) {
+    if (notModified(webRequest)) {
+      return null;
+    }
     Sort sortSpec = parseSort(sort);
-    PageRequest pageRequest = PageRequest.of(page, size, sortSpec);
-    Page<PolicyTerm> result =
+    Sort.Order sortOrder = sortSpec.iterator().next();
+    RequestMetrics.tagSort(sortOrder.getProperty());
+    Optional<PolicyTermCursor> after =
+        Optional.ofNullable(cursor)
+            .filter(value -> !value.isBlank())
+            .map(value -> parseCursor(value, sortOrder));
+    PageRequest pageRequest = PageRequest.of(after.isPresent() ? 0 : page, size, sortSpec);
+    PolicyTermSearchResult result =
         policyTermService.search(
-            Optional.ofNullable(query),
-            Optional.ofNullable(state),
-            Optional.ofNullable(status),
-            Optional.ofNullable(expFrom),
-            Optional.ofNullable(expTo),
-            pageRequest);
+            filter(query, states, statuses, expFrom, expTo, dateField, dateFrom, dateTo),
+            pageRequest,
+            after,
+            includeTotal);
+    return toPageResponse(result, pageRequest, sortOrder);
+  }
+
+  // Validates structured filters (e.g. from the copilot) and runs them through a plan compiled
+  // once per filter shape. The normalized filters come back so the caller can replay them.
+  @PostMapping("/plan")
+  public PolicyTermPlanResponse runPlan(@Valid @RequestBody PolicyTermPlanRequest request) {
+    Sort sortSpec = parseSort(request.sort());
+    Sort.Order sortOrder = sortSpec.iterator().next();
+    RequestMetrics.tagSort(sortOrder.getProperty());
+    String dateField =
+        request.dateField() == null || request.dateField().isBlank()
+            ? "expiration"
+            : request.dateField();
+    PolicyTermFilter filter =
+        filter(
+            request.q(),
+            request.states(),
+            request.statuses(),
+            request.expFrom(),
+            request.expTo(),
+            dateField,
+            request.dateFrom(),
+            request.dateTo());
+    Optional<PolicyTermCursor> after =
+        Optional.ofNullable(request.cursor())
+            .filter(value -> !value.isBlank())
+            .map(value -> parseCursor(value, sortOrder));
+    int page = after.isPresent() || request.page() == null ? 0 : request.page();
+    int size = request.size() == null ? 20 : request.size();
+    boolean includeTotal = request.includeTotal() == null || request.includeTotal();
+    PageRequest pageRequest = PageRequest.of(page, size, sortSpec);
+    PolicyTermSearchResult result =
+        policyTermService.searchCompiled(filter, pageRequest, after, includeTotal);
+
+    PolicyTermPlanRequest normalized =
+        new PolicyTermPlanRequest(
+            filter.query().orElse(null),
+            filter.states(),
+            filter.statuses(),
+            filter.expFrom().orElse(null),
+            filter.expTo().orElse(null),
+            filter.dateField().name().toLowerCase(Locale.US),
+            filter.dateFrom().orElse(null),
+            filter.dateTo().orElse(null),
+            sortParameter(sortOrder),
+            page,
+            size,
+            after.map(PolicyTermCursor::encode).orElse(null),
+            includeTotal);
+    return new PolicyTermPlanResponse(
+        normalized, toPageResponse(result, pageRequest, sortOrder));
+  }
+
+  private PolicyTermPageResponse toPageResponse(
+      PolicyTermSearchResult result, PageRequest pageRequest, Sort.Order sortOrder) {
+    int size = pageRequest.getPageSize();
+    List<PolicyTermSummaryResponse> items = result.items();
+    String nextCursor =
+        result.hasNext() ? nextCursor(sortOrder, items.get(items.size() - 1)) : null;
+    Long totalElements = result.totalElements();
+    Integer totalPages =
+        totalElements == null ? null : (int) ((totalElements + size - 1) / size);
+
+    String totalStrategy =
+        result.totalStrategy() == null ? null : result.totalStrategy().getValue();
 
     return new PolicyTermPageResponse(
-        result.getContent().stream().map(this::toSummary).toList(),
-        result.getNumber(),
-        result.getSize(),
-        result.getTotalElements(),
-        result.getTotalPages());
-  }
-
-  @GetMapping("/{termId}")
-  public PolicyTermDetailResponse getPolicyTerm(@PathVariable UUID termId) {
-    PolicyTerm term =
-        policyTermService
-            .findById(termId)
-            .orElseThrow(
-                () ->
-                    new ResponseStatusException(
-                        HttpStatus.NOT_FOUND, "Policy term not found"));
-    return toDetail(term);
-  }
-
-  private Sort parseSort(String sort) {
+        items,
+        pageRequest.getPageNumber(),
+        size,
+        totalElements,
+        totalPages,
+        totalStrategy,
+        nextCursor);
+  }
+
+  @GetMapping("/facets")
+  public PolicyTermFacetsResponse getFacets(
+      @RequestParam(name = "q", required = false) String query,
+      @RequestParam(name = "state", required = false) List<String> states,
+      @RequestParam(name = "status", required = false) List<String> statuses,
+      @RequestParam(name = "exp_from", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate expFrom,
+      @RequestParam(name = "exp_to", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate expTo,
+      @RequestParam(name = "date_field", defaultValue = "expiration") String dateField,
+      @RequestParam(name = "date_from", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate dateFrom,
+      @RequestParam(name = "date_to", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate dateTo) {
+    return policyTermService.facets(
+        filter(query, states, statuses, expFrom, expTo, dateField, dateFrom, dateTo));
+  }
+
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportPolicyTerms(
+      @RequestParam(name = "q", required = false) String query,
+      @RequestParam(name = "state", required = false) List<String> states,
+      @RequestParam(name = "status", required = false) List<String> statuses,
+      @RequestParam(name = "exp_from", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate expFrom,
+      @RequestParam(name = "exp_to", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate expTo,
+      @RequestParam(name = "date_field", defaultValue = "expiration") String dateField,
+      @RequestParam(name = "date_from", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate dateFrom,
+      @RequestParam(name = "date_to", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate dateTo,
+      @RequestParam(defaultValue = "effective_to_date,asc") String sort,
+      @RequestParam(defaultValue = "csv") String format) {
+    Sort sortSpec = parseSort(sort);
+    RequestMetrics.tagSort(sortSpec.iterator().next().getProperty());
+    PolicyTermExportFormat exportFormat;
+    try {
+      exportFormat = PolicyTermExportFormat.fromParameter(format);
+    } catch (IllegalArgumentException ex) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "Unsupported export format: " + format);
+    }
+    PolicyTermFilter filter =
+        filter(query, states, statuses, expFrom, expTo, dateField, dateFrom, dateTo);
+
+    StreamingResponseBody body =
+        output -> policyTermExporter.export(filter, sortSpec, exportFormat, output);
+    return ResponseEntity.ok()
+        .contentType(exportFormat.getMediaType())
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment()
+                .filename("policy-terms." + exportFormat.getExtension())
+                .build()
+                .toString())
+        .body(body);
+  }
+
+  @PostMapping("/batch")
+  public PolicyTermBatchResponse getPolicyTermsBatch(
+      @Valid @RequestBody PolicyTermBatchRequest request) {
+    boolean byIds = request.ids() != null && !request.ids().isEmpty();
+    boolean byPolicyNumber = request.policyNumber() != null && !request.policyNumber().isBlank();
+    if (byIds == byPolicyNumber) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "Provide either ids or policyNumber");
+    }
+
+    if (byPolicyNumber) {
+      List<PolicyTermDetailResponse> terms =
+          policyTermService.findByPolicyNumber(request.policyNumber().trim());
+      if (terms.isEmpty()) {
+        throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Policy not found");
+      }
+      return new PolicyTermBatchResponse(
+          terms.stream().map(term -> new PolicyTermBatchItem(term.id(), true, term)).toList());
+    }
+
+    Map<UUID, PolicyTermDetailResponse> found = policyTermService.findByIds(request.ids());
+    return new PolicyTermBatchResponse(
+        request.ids().stream()
+            .map(
+                id -> {
+                  PolicyTermDetailResponse term = found.get(id);
+                  return new PolicyTermBatchItem(id, term != null, term);
+                })
+            .toList());
+  }
+
+  @GetMapping("/suggest")
+  public PolicyTermSuggestResponse suggest(
+      @RequestParam(name = "q", defaultValue = "") String query,
+      @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit) {
+    return new PolicyTermSuggestResponse(policyTermSuggester.suggest(query, limit));
+  }
+
+  @GetMapping("/changes")
+  public PolicyTermChangesResponse getChanges(
+      @RequestParam(required = false) String since,
+      @RequestParam(defaultValue = "500") @Min(1) @Max(1000) int limit) {
+    return policyTermChangeFeed.changes(parseChangeToken(since), limit);
+  }
+
+  @GetMapping(path = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamChanges(
+      @RequestParam(required = false) String since,
+      @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+    // A reconnecting EventSource resumes from the last event it received.
+    return policyTermChangeFeed.subscribe(
+        parseChangeToken(lastEventId != null ? lastEventId : since));
+  }
+
+  @GetMapping(
+      path = "/{termId}",
+      produces = {
+        MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_CBOR_VALUE,
+        "application/x-jackson-smile"
+      })
+  public PolicyTermDetailResponse getPolicyTerm(
+      @PathVariable UUID termId, NativeWebRequest webRequest) {
+    if (notModified(webRequest)) {
+      return null;
+    }
+    return policyTermService
+        .findById(termId)
+        .orElseThrow(
+            () -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Policy term not found"));
+  }
+
+  // The tag is weak because Tomcat does not compress responses that carry a strong ETag, and it
+  // names the negotiated media type because each format is a different representation.
+  private boolean notModified(NativeWebRequest webRequest) {
+    HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
+    if (response != null) {
+      response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    }
+    MediaType mediaType = negotiatedMediaType(webRequest);
+    return webRequest.checkNotModified(
+        "W/\"" + policyTermService.dataVersionTag() + "." + mediaType.getSubtype() + "\"");
+  }
+
+  // Picks the first declared type the Accept header allows, as message conversion will.
+  private MediaType negotiatedMediaType(NativeWebRequest webRequest) {
+    @SuppressWarnings("unchecked")
+    Collection<MediaType> producible =
+        (Collection<MediaType>)
+            webRequest.getAttribute(
+                HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    List<MediaType> accepted;
+    try {
+      accepted = new ArrayList<>(contentNegotiationManager.resolveMediaTypes(webRequest));
+    } catch (HttpMediaTypeNotAcceptableException ex) {
+      accepted = new ArrayList<>(List.of(MediaType.ALL));
+    }
+    MimeTypeUtils.sortBySpecificity(accepted);
+    if (producible != null) {
+      for (MediaType acceptable : accepted) {
+        for (MediaType candidate : producible) {
+          if (acceptable.isCompatibleWith(candidate)) {
+            return candidate;
+          }
+        }
+      }
+    }
+    return MediaType.APPLICATION_JSON;
+  }
+
+  static Sort parseSort(String sort) {
     if (sort == null || sort.isBlank()) {
       return Sort.by(Sort.Order.asc("effectiveToDate"));
     }
@@ -113,37 +412,78 @@ public class PolicyTermController {
     return Sort.by(new Sort.Order(direction, mapped));
   }
 
-  private PolicyTermSummaryResponse toSummary(PolicyTerm term) {
-    Policy policy = term.getPolicy();
-    return new PolicyTermSummaryResponse(
-        term.getId(),
-        policy.getPolicyNumber(),
-        policy.getInsuredName(),
-        term.getTermNumber(),
-        term.getState(),
-        term.getStatus(),
-        term.getEffectiveFromDate(),
-        term.getEffectiveToDate(),
-        term.getBalanceDue(),
-        term.getNextDueDate(),
-        term.getLastPaymentDate());
-  }
-
-  private PolicyTermDetailResponse toDetail(PolicyTerm term) {
-    Policy policy = term.getPolicy();
-    return new PolicyTermDetailResponse(
-        term.getId(),
-        policy.getPolicyNumber(),
-        policy.getInsuredName(),
-        term.getTermNumber(),
-        term.getState(),
-        term.getStatus(),
-        term.getEffectiveFromDate(),
-        term.getEffectiveToDate(),
-        term.getBalanceDue(),
-        term.getNextDueDate(),
-        term.getLastPaymentDate(),
-        term.getCreatedAt(),
-        term.getUpdatedAt());
+  private static String sortParameter(Sort.Order order) {
+    String field =
+        SORT_FIELDS.entrySet().stream()
+            .filter(entry -> entry.getValue().equals(order.getProperty()))
+            .map(Map.Entry::getKey)
+            .findFirst()
+            .orElseThrow();
+    return field + "," + order.getDirection().name().toLowerCase(Locale.US);
+  }
+
+  private static PolicyTermFilter filter(
+      String query,
+      List<String> states,
+      List<String> statuses,
+      LocalDate expFrom,
+      LocalDate expTo,
+      String dateField,
+      LocalDate dateFrom,
+      LocalDate dateTo) {
+    PolicyTermDateField field;
+    try {
+      field = PolicyTermDateField.fromParameter(dateField);
+    } catch (IllegalArgumentException ex) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "Unsupported date_field: " + dateField);
+    }
+    if (dateFrom != null && dateTo != null && dateFrom.isAfter(dateTo)) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "date_from must not be after date_to");
+    }
+    return PolicyTermFilter.of(
+        query, states, statuses, expFrom, expTo, field, dateFrom, dateTo);
+  }
+
+  private static Optional<PolicyTermChangeToken> parseChangeToken(String token) {
+    if (token == null || token.isBlank()) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(PolicyTermChangeToken.decode(token));
+    } catch (IllegalArgumentException ex) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid change token");
+    }
+  }
+
+  private PolicyTermCursor parseCursor(String cursor, Sort.Order sortOrder) {
+    PolicyTermCursor decoded;
+    try {
+      decoded = PolicyTermCursor.decode(cursor);
+    } catch (IllegalArgumentException ex) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+    }
+    if (!decoded.matches(sortOrder)) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "Cursor does not match the requested sort");
+    }
+    return decoded;
+  }
+
+  private String nextCursor(Sort.Order sortOrder, PolicyTermSummaryResponse last) {
+    Comparable<?> value =
+        switch (sortOrder.getProperty()) {
+          case "effectiveFromDate" -> last.effectiveFromDate();
+          case "policyNumber" -> last.policyNumber();
+          case "insuredName" -> last.insuredName();
+          case "state" -> last.state();
+          case "status" -> last.status();
+          case "termNumber" -> last.termNumber();
+          default -> last.effectiveToDate();
+        };
+    return new PolicyTermCursor(
+            sortOrder.getProperty(), sortOrder.getDirection(), value, last.id())
+        .encode();
   }
 }
@@ -0,0 +1,12 @@
+package com.oasishorizon.api.policy;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "oasis.search.count")
+public record PolicyTermCountProperties(
+    @DefaultValue("exact") PolicyTermCountStrategy strategy,
+    @DefaultValue("10000") long estimateThreshold,
+    @DefaultValue("30s") Duration cacheTtl,
+    @DefaultValue("1000") long cacheMaxSize) {}
@@ -0,0 +1,13 @@
+package com.oasishorizon.api.policy;
+
+import java.util.Locale;
+
+public enum PolicyTermCountStrategy {
+  EXACT,
+  ESTIMATED,
+  CACHED;
+
+  public String getValue() {
+    return name().toLowerCase(Locale.US);
+  }
+}
@@ -0,0 +1,80 @@
+package com.oasishorizon.api.policy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.function.Supplier;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PolicyTermCounter {
+  private final PolicyTermCountProperties properties;
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+  private final Cache<PolicyTermFilter, Long> counts;
+
+  public PolicyTermCounter(
+      PolicyTermCountProperties properties,
+      JdbcTemplate jdbcTemplate,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.jdbcTemplate = jdbcTemplate;
+    this.objectMapper = objectMapper;
+    this.counts =
+        Caffeine.newBuilder()
+            .maximumSize(properties.cacheMaxSize())
+            .expireAfterWrite(properties.cacheTtl())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, counts, "policyTermCount");
+  }
+
+  // Must run inside the caller's read transaction so the estimate reuses its connection.
+  PolicyTermTotal count(PolicyTermFilter filter, Supplier<Long> exactCount) {
+    return switch (properties.strategy()) {
+      case EXACT -> new PolicyTermTotal(exactCount.get(), PolicyTermCountStrategy.EXACT);
+      case CACHED ->
+          new PolicyTermTotal(cachedCount(filter, exactCount), PolicyTermCountStrategy.CACHED);
+      case ESTIMATED -> {
+        long estimate = estimate(filter);
+        yield estimate < properties.estimateThreshold()
+            ? new PolicyTermTotal(exactCount.get(), PolicyTermCountStrategy.EXACT)
+            : new PolicyTermTotal(estimate, PolicyTermCountStrategy.ESTIMATED);
+      }
+    };
+  }
+
+  // Not counts.get(filter, loader): that holds the cache's bin lock for the whole COUNT, blocking
+  // every other filter hashing to the same bin. A racing miss may count twice, which is harmless.
+  private long cachedCount(PolicyTermFilter filter, Supplier<Long> exactCount) {
+    Long cached = counts.getIfPresent(filter);
+    if (cached != null) {
+      return cached;
+    }
+    long count = exactCount.get();
+    counts.put(filter, count);
+    return count;
+  }
+
+  @EventListener
+  public void onDataChanged(PolicyTermDataChangedEvent event) {
+    counts.invalidateAll();
+  }
+
+  private long estimate(PolicyTermFilter filter) {
+    PolicyTermPredicates predicates = PolicyTermPredicates.of(filter);
+    String sql = "EXPLAIN (FORMAT JSON) SELECT 1 FROM policy_term_search" + predicates.whereSql();
+    String plan = jdbcTemplate.queryForObject(sql, String.class, predicates.sqlArgs().toArray());
+    try {
+      return objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows").asLong();
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Unreadable query plan", ex);
+    }
+  }
+}
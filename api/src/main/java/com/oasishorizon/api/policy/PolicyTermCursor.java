@@ -0,0 +1,72 @@
+package com.oasishorizon.api.policy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+import org.springframework.data.domain.Sort;
+
+public record PolicyTermCursor(
+    String property, Sort.Direction direction, Comparable<?> value, UUID id) {
+  private static final String SEPARATOR = "\n";
+
+  public String encode() {
+    String raw =
+        String.join(SEPARATOR, property, direction.name(), id.toString(), encodeValue(value));
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static PolicyTermCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = raw.split(SEPARATOR, 4);
+      if (parts.length != 4) {
+        throw new IllegalArgumentException("Malformed cursor");
+      }
+      return new PolicyTermCursor(
+          parts[0],
+          Sort.Direction.fromString(parts[1]),
+          decodeValue(parts[3]),
+          UUID.fromString(parts[2]));
+    } catch (RuntimeException ex) {
+      throw new IllegalArgumentException("Malformed cursor", ex);
+    }
+  }
+
+  // The value must also have the sort field's type, or seeking past it fails deep in the query.
+  public boolean matches(Sort.Order order) {
+    return property.equals(order.getProperty())
+        && direction == order.getDirection()
+        && valueType(property).isInstance(value);
+  }
+
+  private static Class<?> valueType(String property) {
+    return switch (property) {
+      case "effectiveToDate", "effectiveFromDate" -> LocalDate.class;
+      case "termNumber" -> Integer.class;
+      default -> String.class;
+    };
+  }
+
+  private static String encodeValue(Comparable<?> value) {
+    if (value instanceof LocalDate date) {
+      return "d:" + date;
+    }
+    if (value instanceof Integer number) {
+      return "i:" + number;
+    }
+    return "s:" + value;
+  }
+
+  private static Comparable<?> decodeValue(String encoded) {
+    String value = encoded.substring(2);
+    return switch (encoded.substring(0, 2)) {
+      case "d:" -> LocalDate.parse(value);
+      case "i:" -> Integer.valueOf(value);
+      case "s:" -> value;
+      default -> throw new IllegalArgumentException("Unknown cursor value type");
+    };
+  }
+}
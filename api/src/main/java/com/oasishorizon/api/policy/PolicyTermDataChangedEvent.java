@@ -0,0 +1,4 @@
+package com.oasishorizon.api.policy;
+
+public record PolicyTermDataChangedEvent(
+    PolicyTermDataVersion previous, PolicyTermDataVersion current) {}
@@ -0,0 +1,13 @@
+package com.oasishorizon.api.policy;
+
+import java.time.Instant;
+
+public record PolicyTermDataVersion(Instant latestUpdate, long rowCount) {
+  public String tag() {
+    return Long.toHexString(latestUpdate.getEpochSecond())
+        + "."
+        + Integer.toHexString(latestUpdate.getNano())
+        + "."
+        + Long.toHexString(rowCount);
+  }
+}
@@ -0,0 +1,30 @@
+package com.oasishorizon.api.policy;
+
+import java.util.Locale;
+
+public enum PolicyTermDateField {
+  EFFECTIVE("effectiveFromDate", "effective_from_date"),
+  EXPIRATION("effectiveToDate", "effective_to_date"),
+  NEXT_DUE("nextDueDate", "next_due_date"),
+  LAST_PAYMENT("lastPaymentDate", "last_payment_date");
+
+  private final String property;
+  private final String column;
+
+  PolicyTermDateField(String property, String column) {
+    this.property = property;
+    this.column = column;
+  }
+
+  public String getProperty() {
+    return property;
+  }
+
+  public String getColumn() {
+    return column;
+  }
+
+  public static PolicyTermDateField fromParameter(String value) {
+    return valueOf(value.trim().toUpperCase(Locale.US));
+  }
+}
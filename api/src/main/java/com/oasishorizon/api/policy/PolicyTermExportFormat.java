@@ -0,0 +1,29 @@
+package com.oasishorizon.api.policy;
+
+import java.util.Locale;
+import org.springframework.http.MediaType;
+
+public enum PolicyTermExportFormat {
+  CSV(new MediaType("text", "csv"), "csv"),
+  NDJSON(new MediaType("application", "x-ndjson"), "ndjson");
+
+  private final MediaType mediaType;
+  private final String extension;
+
+  PolicyTermExportFormat(MediaType mediaType, String extension) {
+    this.mediaType = mediaType;
+    this.extension = extension;
+  }
+
+  public MediaType getMediaType() {
+    return mediaType;
+  }
+
+  public String getExtension() {
+    return extension;
+  }
+
+  public static PolicyTermExportFormat fromParameter(String value) {
+    return valueOf(value.trim().toUpperCase(Locale.US));
+  }
+}
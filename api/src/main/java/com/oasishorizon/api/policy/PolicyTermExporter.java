@@ -0,0 +1,96 @@
+package com.oasishorizon.api.policy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.oasishorizon.api.policy.dto.PolicyTermSummaryResponse;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PolicyTermExporter {
+  private static final String CSV_HEADER =
+      "id,policy_number,insured_name,term_number,state,status,effective_from_date,"
+          + "effective_to_date,balance_due,next_due_date,last_payment_date";
+
+  private final PolicyTermService policyTermService;
+  private final ObjectWriter rowWriter;
+
+  public PolicyTermExporter(PolicyTermService policyTermService, ObjectMapper objectMapper) {
+    this.policyTermService = policyTermService;
+    this.rowWriter = objectMapper.writerFor(PolicyTermSummaryResponse.class);
+  }
+
+  public void export(
+      PolicyTermFilter filter, Sort sort, PolicyTermExportFormat format, OutputStream output)
+      throws IOException {
+    Writer writer =
+        new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+    if (format == PolicyTermExportFormat.CSV) {
+      writer.write(CSV_HEADER);
+      writer.write('\n');
+    }
+    try {
+      policyTermService.export(
+          filter,
+          sort,
+          row -> {
+            try {
+              writer.write(format == PolicyTermExportFormat.CSV ? toCsv(row) : toJson(row));
+              writer.write('\n');
+            } catch (IOException ex) {
+              throw new UncheckedIOException(ex);
+            }
+          });
+    } catch (UncheckedIOException ex) {
+      throw ex.getCause();
+    }
+    writer.flush();
+  }
+
+  private String toJson(PolicyTermSummaryResponse row) throws IOException {
+    return rowWriter.writeValueAsString(row);
+  }
+
+  // Only the free-text columns can carry commas, quotes or formulas; ids, dates and amounts are
+  // written as they are, so a negative balance stays a number.
+  private static String toCsv(PolicyTermSummaryResponse row) {
+    return String.join(
+        ",",
+        row.id().toString(),
+        csvText(row.policyNumber()),
+        csvText(row.insuredName()),
+        String.valueOf(row.termNumber()),
+        csvText(row.state()),
+        csvText(row.status()),
+        Objects.toString(row.effectiveFromDate(), ""),
+        Objects.toString(row.effectiveToDate(), ""),
+        row.balanceDue().toPlainString(),
+        Objects.toString(row.nextDueDate(), ""),
+        Objects.toString(row.lastPaymentDate(), ""));
+  }
+
+  // Spreadsheets evaluate a cell that starts with =, +, -, @, tab or CR as a formula, so such a
+  // value is quoted and prefixed with an apostrophe.
+  static String csvText(String value) {
+    if (value == null || value.isEmpty()) {
+      return "";
+    }
+    boolean formula = "=+-@\t\r".indexOf(value.charAt(0)) >= 0;
+    if (!formula
+        && value.indexOf(',') < 0
+        && value.indexOf('"') < 0
+        && value.indexOf('\n') < 0
+        && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + (formula ? "'" : "") + value.replace("\"", "\"\"") + '"';
+  }
+}
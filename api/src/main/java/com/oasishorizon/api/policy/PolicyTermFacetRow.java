@@ -0,0 +1,3 @@
+package com.oasishorizon.api.policy;
+
+record PolicyTermFacetRow(String status, String state, int year, int month, long count) {}
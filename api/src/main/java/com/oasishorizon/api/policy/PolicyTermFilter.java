@@ -0,0 +1,70 @@
+package com.oasishorizon.api.policy;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+public record PolicyTermFilter(
+    Optional<String> query,
+    List<String> states,
+    List<String> statuses,
+    Optional<LocalDate> expFrom,
+    Optional<LocalDate> expTo,
+    PolicyTermDateField dateField,
+    Optional<LocalDate> dateFrom,
+    Optional<LocalDate> dateTo) {
+  private static final Pattern POLICY_NUMBER_PREFIX = Pattern.compile("^[A-Za-z]{2}-\\d*$");
+
+  public PolicyTermFilter {
+    query = query.map(String::trim).filter(value -> !value.isBlank());
+    states = normalizeCodes(states);
+    statuses = normalizeCodes(statuses);
+    // Without a range the field is irrelevant; pin it so equal filters share cache entries.
+    if (dateField == null || (dateFrom.isEmpty() && dateTo.isEmpty())) {
+      dateField = PolicyTermDateField.EXPIRATION;
+    }
+  }
+
+  public static PolicyTermFilter of(
+      String query,
+      List<String> states,
+      List<String> statuses,
+      LocalDate expFrom,
+      LocalDate expTo) {
+    return of(query, states, statuses, expFrom, expTo, null, null, null);
+  }
+
+  public static PolicyTermFilter of(
+      String query,
+      List<String> states,
+      List<String> statuses,
+      LocalDate expFrom,
+      LocalDate expTo,
+      PolicyTermDateField dateField,
+      LocalDate dateFrom,
+      LocalDate dateTo) {
+    return new PolicyTermFilter(
+        Optional.ofNullable(query),
+        states == null ? List.of() : states,
+        statuses == null ? List.of() : statuses,
+        Optional.ofNullable(expFrom),
+        Optional.ofNullable(expTo),
+        dateField,
+        Optional.ofNullable(dateFrom),
+        Optional.ofNullable(dateTo));
+  }
+
+  public boolean isPolicyNumberPrefix() {
+    return query.filter(value -> POLICY_NUMBER_PREFIX.matcher(value).matches()).isPresent();
+  }
+
+  private static List<String> normalizeCodes(List<String> values) {
+    return values.stream()
+        .map(PolicyTerm::normalizeCode)
+        .filter(value -> !value.isBlank())
+        .distinct()
+        .sorted()
+        .toList();
+  }
+}
@@ -0,0 +1,126 @@
+package com.oasishorizon.api.policy;
+
+import com.oasishorizon.api.policy.dto.PolicyTermSummaryResponse;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.jdbc.core.RowMapper;
+
+// SQL for one filter shape against policy_term_search, rendered from PolicyTermPredicates like
+// PolicyTermService.buildSpecification. Lists bind as one array parameter (= ANY(?)), so the
+// statement text does not change with the number of states or statuses and the driver can reuse
+// its server-side prepared statement.
+final class PolicyTermFilterPlan {
+  private static final Map<String, String> SORT_COLUMNS =
+      Map.of(
+          "effectiveToDate", "effective_to_date",
+          "effectiveFromDate", "effective_from_date",
+          "policyNumber", "policy_number COLLATE " + PolicyTermPredicates.SORT_COLLATION,
+          "insuredName", "insured_name COLLATE " + PolicyTermPredicates.SORT_COLLATION,
+          "state", "state COLLATE " + PolicyTermPredicates.SORT_COLLATION,
+          "status", "status COLLATE " + PolicyTermPredicates.SORT_COLLATION,
+          "termNumber", "term_number");
+  private static final String COLUMNS =
+      "term_id, policy_number, insured_name, term_number, state, status, effective_from_date, "
+          + "effective_to_date, balance_due, next_due_date, last_payment_date";
+
+  static final RowMapper<PolicyTermSummaryResponse> ROW_MAPPER =
+      (resultSet, rowNum) ->
+          new PolicyTermSummaryResponse(
+              resultSet.getObject("term_id", UUID.class),
+              resultSet.getString("policy_number"),
+              resultSet.getString("insured_name"),
+              resultSet.getInt("term_number"),
+              resultSet.getString("state"),
+              resultSet.getString("status"),
+              resultSet.getObject("effective_from_date", LocalDate.class),
+              resultSet.getObject("effective_to_date", LocalDate.class),
+              resultSet.getBigDecimal("balance_due"),
+              resultSet.getObject("next_due_date", LocalDate.class),
+              resultSet.getObject("last_payment_date", LocalDate.class));
+
+  private final PolicyTermFilterShape shape;
+  private final String selectSql;
+  private final String seekSql;
+  private final String countSql;
+
+  private PolicyTermFilterPlan(
+      PolicyTermFilterShape shape, String selectSql, String seekSql, String countSql) {
+    this.shape = shape;
+    this.selectSql = selectSql;
+    this.seekSql = seekSql;
+    this.countSql = countSql;
+  }
+
+  // predicates may come from any filter of this shape; only their structure is used.
+  static PolicyTermFilterPlan compile(
+      PolicyTermFilterShape shape, PolicyTermPredicates predicates) {
+    String sortColumn = SORT_COLUMNS.get(shape.sortProperty());
+    if (sortColumn == null) {
+      throw new IllegalArgumentException("Unsupported sort property: " + shape.sortProperty());
+    }
+    String where = predicates.whereSql();
+    // The id tiebreaker follows the sort direction, as in PolicyTermService.withIdTiebreaker.
+    String direction = shape.direction().isAscending() ? "ASC" : "DESC";
+    String orderBy = " ORDER BY " + sortColumn + ' ' + direction + ", term_id " + direction;
+    String selectSql =
+        "SELECT " + COLUMNS + " FROM policy_term_search" + where + orderBy + " LIMIT ? OFFSET ?";
+    // Keyset variant for a PolicyTermCursor: the same rows as PolicyTermService.seekAfter. Both
+    // keys run in one direction, so a row comparison expresses it and matches the sort index.
+    String seekSql =
+        "SELECT "
+            + COLUMNS
+            + " FROM policy_term_search"
+            + where
+            + " AND ("
+            + sortColumn
+            + ", term_id) "
+            + (shape.direction().isAscending() ? '>' : '<')
+            + " (?, ?)"
+            + orderBy
+            + " LIMIT ?";
+    String countSql = "SELECT count(*) FROM policy_term_search" + where;
+    return new PolicyTermFilterPlan(shape, selectSql, seekSql, countSql);
+  }
+
+  PolicyTermFilterShape shape() {
+    return shape;
+  }
+
+  String selectSql() {
+    return selectSql;
+  }
+
+  String seekSql() {
+    return seekSql;
+  }
+
+  String countSql() {
+    return countSql;
+  }
+
+  // Parameters in placeholder order; the filter must have this plan's shape.
+  Object[] bind(PolicyTermFilter filter) {
+    return PolicyTermPredicates.of(filter).sqlArgs().toArray();
+  }
+
+  Object[] bindPage(PolicyTermFilter filter, long offset, int limit) {
+    Object[] where = bind(filter);
+    Object[] args = new Object[where.length + 2];
+    System.arraycopy(where, 0, args, 0, where.length);
+    args[where.length] = limit;
+    args[where.length + 1] = offset;
+    return args;
+  }
+
+  // The cursor must match this plan's sort (PolicyTermCursor.matches).
+  Object[] bindSeek(PolicyTermFilter filter, PolicyTermCursor cursor, int limit) {
+    Object[] where = bind(filter);
+    Object[] args = new Object[where.length + 3];
+    System.arraycopy(where, 0, args, 0, where.length);
+    args[where.length] = cursor.value();
+    args[where.length + 1] = cursor.id();
+    args[where.length + 2] = limit;
+    return args;
+  }
+}
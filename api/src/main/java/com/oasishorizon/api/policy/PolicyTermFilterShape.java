@@ -0,0 +1,42 @@
+package com.oasishorizon.api.policy;
+
+import org.springframework.data.domain.Sort;
+
+// Which predicates a filter uses and how it sorts, without the values. Filters with the same
+// shape share one compiled plan.
+record PolicyTermFilterShape(
+    QueryMode queryMode,
+    boolean states,
+    boolean statuses,
+    boolean expFrom,
+    boolean expTo,
+    PolicyTermDateField dateField,
+    boolean dateFrom,
+    boolean dateTo,
+    String sortProperty,
+    Sort.Direction direction) {
+
+  enum QueryMode {
+    NONE,
+    PREFIX,
+    CONTAINS
+  }
+
+  static PolicyTermFilterShape of(PolicyTermFilter filter, Sort.Order order) {
+    QueryMode queryMode =
+        filter.query().isEmpty()
+            ? QueryMode.NONE
+            : filter.isPolicyNumberPrefix() ? QueryMode.PREFIX : QueryMode.CONTAINS;
+    return new PolicyTermFilterShape(
+        queryMode,
+        !filter.states().isEmpty(),
+        !filter.statuses().isEmpty(),
+        filter.expFrom().isPresent(),
+        filter.expTo().isPresent(),
+        filter.dateField(),
+        filter.dateFrom().isPresent(),
+        filter.dateTo().isPresent(),
+        order.getProperty(),
+        order.getDirection());
+  }
+}
@@ -0,0 +1,98 @@
+package com.oasishorizon.api.policy;
+
+import com.oasishorizon.api.policy.dto.PolicyTermSummaryResponse;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "oasis.search.memory-index", name = "enabled", havingValue = "true")
+public class PolicyTermMemoryIndex {
+  private static final Logger logger = LoggerFactory.getLogger(PolicyTermMemoryIndex.class);
+
+  private final PolicyTermRepository policyTermRepository;
+  private final PolicyTermVersionTracker versionTracker;
+  private final PolicyTermMemoryIndexProperties properties;
+
+  private volatile PolicyTermSnapshot snapshot;
+  private Instant watermark = Instant.EPOCH;
+
+  public PolicyTermMemoryIndex(
+      PolicyTermRepository policyTermRepository,
+      PolicyTermVersionTracker versionTracker,
+      PolicyTermMemoryIndexProperties properties) {
+    this.policyTermRepository = policyTermRepository;
+    this.versionTracker = versionTracker;
+    this.properties = properties;
+  }
+
+  public boolean isLoaded() {
+    return snapshot != null;
+  }
+
+  public PolicyTermSearchResult search(
+      PolicyTermFilter filter,
+      Pageable pageable,
+      Optional<PolicyTermCursor> cursor,
+      boolean includeTotal) {
+    return snapshot.search(filter, pageable, cursor, includeTotal);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void load() {
+    Instant latest = versionTracker.read().latestUpdate();
+    List<PolicyTermSummaryResponse> rows = fetchUpdatedSince(null);
+    snapshot = PolicyTermSnapshot.of(rows);
+    watermark = latest;
+    logger.info("Loaded {} policy terms into the in-memory search index.", rows.size());
+  }
+
+  @Scheduled(
+      initialDelayString = "${oasis.search.memory-index.refresh-interval:PT30S}",
+      fixedDelayString = "${oasis.search.memory-index.refresh-interval:PT30S}")
+  public synchronized void refresh() {
+    if (snapshot == null) {
+      load();
+      return;
+    }
+    PolicyTermDataVersion version = versionTracker.read();
+    // Re-read an overlap window on every refresh: a writer that commits late can carry an
+    // updated_at below the watermark without moving max(updated_at). Merging replaces rows by id
+    // and keeps the snapshot when nothing differs, so re-reading merged rows is harmless.
+    List<PolicyTermSummaryResponse> changes =
+        fetchUpdatedSince(watermark.minus(properties.refreshOverlap()));
+    PolicyTermSnapshot merged = snapshot.merge(changes);
+    if (merged != snapshot) {
+      snapshot = merged;
+      logger.debug("Merged {} changed policy terms into the search index.", changes.size());
+    }
+    if (version.latestUpdate().isAfter(watermark)) {
+      watermark = version.latestUpdate();
+    }
+    // Deletes (and inserts carrying old timestamps, e.g. a reseed) don't move the watermark.
+    if (snapshot.size() != version.rowCount()) {
+      load();
+    }
+  }
+
+  private List<PolicyTermSummaryResponse> fetchUpdatedSince(Instant since) {
+    // The read model's updated_at already folds in the owning policy's updated_at.
+    Specification<PolicyTermSearchRow> specification =
+        (root, criteriaQuery, criteriaBuilder) ->
+            since == null
+                ? criteriaBuilder.conjunction()
+                : criteriaBuilder.greaterThanOrEqualTo(root.get("updatedAt"), since);
+    return policyTermRepository.findSummaries(
+        specification, Sort.by("id"), 0, Integer.MAX_VALUE);
+  }
+}
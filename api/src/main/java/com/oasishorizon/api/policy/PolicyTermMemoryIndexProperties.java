@@ -0,0 +1,8 @@
+package com.oasishorizon.api.policy;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "oasis.search.memory-index")
+public record PolicyTermMemoryIndexProperties(@DefaultValue("1m") Duration refreshOverlap) {}
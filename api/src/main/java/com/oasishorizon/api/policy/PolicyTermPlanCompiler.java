@@ -0,0 +1,51 @@
+package com.oasishorizon.api.policy;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.oasishorizon.api.policy.dto.PolicyTermSummaryResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.List;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Compiles each filter shape to SQL once; later searches of that shape only bind parameters.
+@Component
+public class PolicyTermPlanCompiler {
+  // Shapes are bounded by the filter and sort combinations, well under this.
+  private static final long MAX_PLANS = 10_000;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Cache<PolicyTermFilterShape, PolicyTermFilterPlan> plans;
+
+  public PolicyTermPlanCompiler(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.plans = Caffeine.newBuilder().maximumSize(MAX_PLANS).recordStats().build();
+    CaffeineCacheMetrics.monitor(meterRegistry, plans, "policyTermPlan");
+  }
+
+  PolicyTermFilterPlan plan(PolicyTermFilter filter, Sort.Order order) {
+    return plans.get(
+        PolicyTermFilterShape.of(filter, order),
+        shape -> PolicyTermFilterPlan.compile(shape, PolicyTermPredicates.of(filter)));
+  }
+
+  // All of these must run inside the caller's read transaction.
+  List<PolicyTermSummaryResponse> findSummaries(
+      PolicyTermFilterPlan plan, PolicyTermFilter filter, long offset, int limit) {
+    return jdbcTemplate.query(
+        plan.selectSql(), PolicyTermFilterPlan.ROW_MAPPER, plan.bindPage(filter, offset, limit));
+  }
+
+  List<PolicyTermSummaryResponse> findSummariesAfter(
+      PolicyTermFilterPlan plan, PolicyTermFilter filter, PolicyTermCursor cursor, int limit) {
+    return jdbcTemplate.query(
+        plan.seekSql(), PolicyTermFilterPlan.ROW_MAPPER, plan.bindSeek(filter, cursor, limit));
+  }
+
+  long count(PolicyTermFilterPlan plan, PolicyTermFilter filter) {
+    Long count = jdbcTemplate.queryForObject(plan.countSql(), Long.class, plan.bind(filter));
+    return count == null ? 0 : count;
+  }
+}
@@ -0,0 +1,179 @@
+package com.oasishorizon.api.policy;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+
+// A search filter as conditions on policy_term_search columns. The Criteria specification, the
+// compiled SQL plans and the count estimate all render from this, so escaping, prefix matching,
+// the date field mapping and list handling are decided in one place. The SQL text depends only
+// on the filter's shape, never on its values.
+final class PolicyTermPredicates {
+  static final char LIKE_ESCAPE = '\\';
+  // Text sorts and cursor comparisons use code point order, which PolicyTermSnapshot reproduces;
+  // the database's linguistic collation would order rows differently from Java.
+  static final String SORT_COLLATION = "ucs_basic";
+
+  enum Operator {
+    LIKE_LOWER,
+    ANY,
+    AT_LEAST,
+    AT_MOST
+  }
+
+  record Condition(String property, String column, Operator operator, Object value) {}
+
+  // Conditions inside one group are ORed; the groups are ANDed.
+  private final List<List<Condition>> groups;
+
+  private PolicyTermPredicates(List<List<Condition>> groups) {
+    this.groups = groups;
+  }
+
+  static PolicyTermPredicates of(PolicyTermFilter filter) {
+    List<List<Condition>> groups = new ArrayList<>();
+    filter.query()
+        .ifPresent(
+            value -> {
+              String escaped = escapeLike(value.toLowerCase(Locale.US));
+              if (filter.isPolicyNumberPrefix()) {
+                // Served by idx_policy_term_search_policy_number_prefix (text_pattern_ops).
+                groups.add(
+                    List.of(
+                        new Condition(
+                            "policyNumber", "policy_number", Operator.LIKE_LOWER, escaped + "%")));
+                return;
+              }
+              // Served by the pg_trgm GIN indexes on lower(policy_number) / lower(insured_name).
+              String likeValue = "%" + escaped + "%";
+              groups.add(
+                  List.of(
+                      new Condition(
+                          "policyNumber", "policy_number", Operator.LIKE_LOWER, likeValue),
+                      new Condition(
+                          "insuredName", "insured_name", Operator.LIKE_LOWER, likeValue)));
+            });
+    if (!filter.states().isEmpty()) {
+      groups.add(List.of(new Condition("state", "state", Operator.ANY, filter.states())));
+    }
+    if (!filter.statuses().isEmpty()) {
+      groups.add(List.of(new Condition("status", "status", Operator.ANY, filter.statuses())));
+    }
+    PolicyTermDateField expiration = PolicyTermDateField.EXPIRATION;
+    filter.expFrom().ifPresent(date -> groups.add(List.of(dateCondition(expiration, true, date))));
+    filter.expTo().ifPresent(date -> groups.add(List.of(dateCondition(expiration, false, date))));
+    PolicyTermDateField dateField = filter.dateField();
+    filter.dateFrom().ifPresent(date -> groups.add(List.of(dateCondition(dateField, true, date))));
+    filter.dateTo().ifPresent(date -> groups.add(List.of(dateCondition(dateField, false, date))));
+    return new PolicyTermPredicates(List.copyOf(groups));
+  }
+
+  static String escapeLike(String value) {
+    return value
+        .replace("\\", "\\\\")
+        .replace("%", "\\%")
+        .replace("_", "\\_");
+  }
+
+  // " WHERE ..." with one placeholder per condition. Lists bind as one array parameter
+  // (= ANY(?)), so the text does not change with the number of states or statuses.
+  String whereSql() {
+    StringBuilder sql = new StringBuilder(" WHERE true");
+    for (List<Condition> group : groups) {
+      sql.append(" AND ");
+      if (group.size() > 1) {
+        sql.append('(');
+      }
+      for (int i = 0; i < group.size(); i++) {
+        if (i > 0) {
+          sql.append(" OR ");
+        }
+        appendSql(sql, group.get(i));
+      }
+      if (group.size() > 1) {
+        sql.append(')');
+      }
+    }
+    return sql.toString();
+  }
+
+  // Parameters in whereSql placeholder order.
+  List<Object> sqlArgs() {
+    List<Object> args = new ArrayList<>();
+    for (List<Condition> group : groups) {
+      for (Condition condition : group) {
+        args.add(
+            condition.operator() == Operator.ANY
+                ? ((List<?>) condition.value()).toArray(new String[0])
+                : condition.value());
+      }
+    }
+    return args;
+  }
+
+  Predicate toPredicate(Root<PolicyTermSearchRow> root, CriteriaBuilder criteriaBuilder) {
+    List<Predicate> predicates = new ArrayList<>();
+    for (List<Condition> group : groups) {
+      List<Predicate> alternatives = new ArrayList<>();
+      for (Condition condition : group) {
+        alternatives.add(toPredicate(root, criteriaBuilder, condition));
+      }
+      predicates.add(
+          alternatives.size() == 1
+              ? alternatives.get(0)
+              : criteriaBuilder.or(alternatives.toArray(new Predicate[0])));
+    }
+    return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+  }
+
+  // The expression to order and seek on for a sort property.
+  @SuppressWarnings("unchecked")
+  static Expression<?> sortKey(
+      Root<PolicyTermSearchRow> root, CriteriaBuilder criteriaBuilder, String property) {
+    Path<?> path = root.get(property);
+    return path.getJavaType() == String.class
+        ? ((HibernateCriteriaBuilder) criteriaBuilder)
+            .collate((Expression<String>) path, SORT_COLLATION)
+        : path;
+  }
+
+  private static Condition dateCondition(
+      PolicyTermDateField field, boolean from, LocalDate date) {
+    return new Condition(
+        field.getProperty(), field.getColumn(), from ? Operator.AT_LEAST : Operator.AT_MOST, date);
+  }
+
+  private static void appendSql(StringBuilder sql, Condition condition) {
+    String column = condition.column();
+    switch (condition.operator()) {
+      case LIKE_LOWER -> sql.append("lower(").append(column).append(") LIKE ? ESCAPE '\\'");
+      case ANY -> sql.append(column).append(" = ANY(?)");
+      case AT_LEAST -> sql.append(column).append(" >= ?");
+      case AT_MOST -> sql.append(column).append(" <= ?");
+    }
+  }
+
+  private static Predicate toPredicate(
+      Root<PolicyTermSearchRow> root, CriteriaBuilder criteriaBuilder, Condition condition) {
+    String property = condition.property();
+    return switch (condition.operator()) {
+      case LIKE_LOWER ->
+          criteriaBuilder.like(
+              criteriaBuilder.lower(root.get(property)), (String) condition.value(), LIKE_ESCAPE);
+      case ANY -> root.get(property).in((List<?>) condition.value());
+      case AT_LEAST ->
+          criteriaBuilder.greaterThanOrEqualTo(
+              root.<LocalDate>get(property), (LocalDate) condition.value());
+      case AT_MOST ->
+          criteriaBuilder.lessThanOrEqualTo(
+              root.<LocalDate>get(property), (LocalDate) condition.value());
+    };
+  }
+}
@@ -1,8 +1,16 @@
 package com.oasishorizon.api.policy;
 
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 public interface PolicyTermRepository
-    extends JpaRepository<PolicyTerm, UUID>, JpaSpecificationExecutor<PolicyTerm> {}
+    extends JpaRepository<PolicyTerm, UUID>,
+        JpaSpecificationExecutor<PolicyTerm>,
+        PolicyTermSearchRepository {
+  @Query("select max(t.updatedAt) from PolicyTerm t")
+  Optional<Instant> findMaxUpdatedAt();
+}
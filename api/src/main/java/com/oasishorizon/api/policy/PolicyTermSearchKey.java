@@ -0,0 +1,11 @@
+package com.oasishorizon.api.policy;
+
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+
+record PolicyTermSearchKey(
+    PolicyTermFilter filter,
+    Pageable pageable,
+    Optional<PolicyTermCursor> cursor,
+    boolean includeTotal,
+    PolicyTermDataVersion version) {}
@@ -0,0 +1,35 @@
+package com.oasishorizon.api.policy;
+
+import com.oasishorizon.api.policy.dto.PolicyTermChangeResponse;
+import com.oasishorizon.api.policy.dto.PolicyTermDetailResponse;
+import com.oasishorizon.api.policy.dto.PolicyTermSummaryResponse;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface PolicyTermSearchRepository {
+  List<PolicyTermSummaryResponse> findSummaries(
+      Specification<PolicyTermSearchRow> specification, Sort sort, long offset, int limit);
+
+  // Must be consumed inside a transaction and closed; rows are read through a JDBC cursor.
+  Stream<PolicyTermSummaryResponse> streamSummaries(
+      Specification<PolicyTermSearchRow> specification, Sort sort, int fetchSize);
+
+  List<PolicyTermChangeResponse> findChanges(
+      Optional<PolicyTermChangeToken> after, Instant until, int limit);
+
+  long countSummaries(Specification<PolicyTermSearchRow> specification);
+
+  Optional<PolicyTermDetailResponse> findDetailById(UUID termId);
+
+  List<PolicyTermDetailResponse> findDetailsByIds(Collection<UUID> termIds);
+
+  List<PolicyTermDetailResponse> findDetailsByPolicyNumber(String policyNumber);
+
+  List<PolicyTermFacetRow> countFacets(Specification<PolicyTermSearchRow> specification);
+}
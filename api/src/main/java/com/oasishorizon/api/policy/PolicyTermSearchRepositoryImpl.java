@@ -0,0 +1,233 @@
+package com.oasishorizon.api.policy;
+
+import com.oasishorizon.api.policy.dto.PolicyTermChangeResponse;
+import com.oasishorizon.api.policy.dto.PolicyTermDetailResponse;
+import com.oasishorizon.api.policy.dto.PolicyTermSummaryResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+class PolicyTermSearchRepositoryImpl implements PolicyTermSearchRepository {
+  private final EntityManager entityManager;
+
+  PolicyTermSearchRepositoryImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public List<PolicyTermSummaryResponse> findSummaries(
+      Specification<PolicyTermSearchRow> specification, Sort sort, long offset, int limit) {
+    return summaryQuery(specification, sort)
+        .setFirstResult(Math.toIntExact(offset))
+        .setMaxResults(limit)
+        .getResultList();
+  }
+
+  @Override
+  public Stream<PolicyTermSummaryResponse> streamSummaries(
+      Specification<PolicyTermSearchRow> specification, Sort sort, int fetchSize) {
+    return summaryQuery(specification, sort)
+        .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+        .getResultStream();
+  }
+
+  private TypedQuery<PolicyTermSummaryResponse> summaryQuery(
+      Specification<PolicyTermSearchRow> specification, Sort sort) {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<PolicyTermSummaryResponse> criteriaQuery =
+        criteriaBuilder.createQuery(PolicyTermSummaryResponse.class);
+    Root<PolicyTermSearchRow> root = criteriaQuery.from(PolicyTermSearchRow.class);
+
+    criteriaQuery.where(specification.toPredicate(root, criteriaQuery, criteriaBuilder));
+    criteriaQuery.select(
+        criteriaBuilder.construct(
+            PolicyTermSummaryResponse.class,
+            root.get("id"),
+            root.get("policyNumber"),
+            root.get("insuredName"),
+            root.get("termNumber"),
+            root.get("state"),
+            root.get("status"),
+            root.get("effectiveFromDate"),
+            root.get("effectiveToDate"),
+            root.get("balanceDue"),
+            root.get("nextDueDate"),
+            root.get("lastPaymentDate")));
+    criteriaQuery.orderBy(
+        sort.stream()
+            .map(
+                order -> {
+                  var key =
+                      PolicyTermPredicates.sortKey(root, criteriaBuilder, order.getProperty());
+                  return order.isAscending()
+                      ? criteriaBuilder.asc(key)
+                      : criteriaBuilder.desc(key);
+                })
+            .toList());
+
+    return entityManager.createQuery(criteriaQuery);
+  }
+
+  @Override
+  public List<PolicyTermChangeResponse> findChanges(
+      Optional<PolicyTermChangeToken> after, Instant until, int limit) {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<PolicyTermChangeResponse> criteriaQuery =
+        criteriaBuilder.createQuery(PolicyTermChangeResponse.class);
+    Root<PolicyTermSearchRow> root = criteriaQuery.from(PolicyTermSearchRow.class);
+    Path<Instant> updatedAt = root.get("updatedAt");
+    Path<UUID> id = root.get("id");
+
+    List<Predicate> predicates = new ArrayList<>();
+    predicates.add(criteriaBuilder.lessThanOrEqualTo(updatedAt, until));
+    after.ifPresent(
+        token ->
+            predicates.add(
+                criteriaBuilder.or(
+                    criteriaBuilder.greaterThan(updatedAt, token.updatedAt()),
+                    criteriaBuilder.and(
+                        criteriaBuilder.equal(updatedAt, token.updatedAt()),
+                        criteriaBuilder.greaterThan(id, token.id())))));
+    criteriaQuery
+        .select(
+            criteriaBuilder.construct(
+                PolicyTermChangeResponse.class,
+                id,
+                root.get("policyNumber"),
+                root.get("insuredName"),
+                root.get("termNumber"),
+                root.get("state"),
+                root.get("status"),
+                root.get("effectiveFromDate"),
+                root.get("effectiveToDate"),
+                root.get("balanceDue"),
+                root.get("nextDueDate"),
+                root.get("lastPaymentDate"),
+                updatedAt))
+        .where(predicates.toArray(new Predicate[0]))
+        .orderBy(criteriaBuilder.asc(updatedAt), criteriaBuilder.asc(id));
+
+    return entityManager.createQuery(criteriaQuery).setMaxResults(limit).getResultList();
+  }
+
+  @Override
+  public long countSummaries(Specification<PolicyTermSearchRow> specification) {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery(Long.class);
+    Root<PolicyTermSearchRow> root = criteriaQuery.from(PolicyTermSearchRow.class);
+
+    criteriaQuery
+        .select(criteriaBuilder.count(root))
+        .where(specification.toPredicate(root, criteriaQuery, criteriaBuilder));
+
+    return entityManager.createQuery(criteriaQuery).getSingleResult();
+  }
+
+  @Override
+  public Optional<PolicyTermDetailResponse> findDetailById(UUID termId) {
+    return detailQuery(
+            (root, policy, criteriaQuery, criteriaBuilder) ->
+                criteriaQuery.where(criteriaBuilder.equal(root.get("id"), termId)))
+        .getResultStream()
+        .findFirst();
+  }
+
+  @Override
+  public List<PolicyTermDetailResponse> findDetailsByIds(Collection<UUID> termIds) {
+    return detailQuery(
+            (root, policy, criteriaQuery, criteriaBuilder) ->
+                criteriaQuery.where(root.get("id").in(termIds)))
+        .getResultList();
+  }
+
+  @Override
+  public List<PolicyTermDetailResponse> findDetailsByPolicyNumber(String policyNumber) {
+    return detailQuery(
+            (root, policy, criteriaQuery, criteriaBuilder) ->
+                criteriaQuery
+                    .where(criteriaBuilder.equal(policy.get("policyNumber"), policyNumber))
+                    .orderBy(criteriaBuilder.asc(root.get("termNumber"))))
+        .getResultList();
+  }
+
+  // Projects straight into the DTO so the policy columns come back in the same statement.
+  private TypedQuery<PolicyTermDetailResponse> detailQuery(DetailCriteria criteria) {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<PolicyTermDetailResponse> criteriaQuery =
+        criteriaBuilder.createQuery(PolicyTermDetailResponse.class);
+    Root<PolicyTerm> root = criteriaQuery.from(PolicyTerm.class);
+    Join<PolicyTerm, Policy> policy = root.join("policy");
+
+    criteriaQuery.select(
+        criteriaBuilder.construct(
+            PolicyTermDetailResponse.class,
+            root.get("id"),
+            policy.get("policyNumber"),
+            policy.get("insuredName"),
+            root.get("termNumber"),
+            root.get("state"),
+            root.get("status"),
+            root.get("effectiveFromDate"),
+            root.get("effectiveToDate"),
+            root.get("balanceDue"),
+            root.get("nextDueDate"),
+            root.get("lastPaymentDate"),
+            root.get("createdAt"),
+            root.get("updatedAt")));
+    criteria.apply(root, policy, criteriaQuery, criteriaBuilder);
+
+    return entityManager.createQuery(criteriaQuery);
+  }
+
+  @Override
+  public List<PolicyTermFacetRow> countFacets(Specification<PolicyTermSearchRow> specification) {
+    HibernateCriteriaBuilder criteriaBuilder =
+        (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+    CriteriaQuery<PolicyTermFacetRow> criteriaQuery =
+        criteriaBuilder.createQuery(PolicyTermFacetRow.class);
+    Root<PolicyTermSearchRow> root = criteriaQuery.from(PolicyTermSearchRow.class);
+
+    criteriaQuery.where(specification.toPredicate(root, criteriaQuery, criteriaBuilder));
+    var status = root.<String>get("status");
+    var state = root.<String>get("state");
+    var year = criteriaBuilder.year(root.get("effectiveToDate"));
+    var month = criteriaBuilder.month(root.get("effectiveToDate"));
+    criteriaQuery
+        .select(
+            criteriaBuilder.construct(
+                PolicyTermFacetRow.class,
+                status,
+                state,
+                year,
+                month,
+                criteriaBuilder.count(root)))
+        .groupBy(status, state, year, month);
+
+    return entityManager.createQuery(criteriaQuery).getResultList();
+  }
+
+  @FunctionalInterface
+  private interface DetailCriteria {
+    void apply(
+        Root<PolicyTerm> root,
+        Join<PolicyTerm, Policy> policy,
+        CriteriaQuery<PolicyTermDetailResponse> criteriaQuery,
+        CriteriaBuilder criteriaBuilder);
+  }
+}
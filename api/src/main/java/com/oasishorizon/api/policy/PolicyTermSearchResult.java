@@ -0,0 +1,10 @@
+package com.oasishorizon.api.policy;
+
+import com.oasishorizon.api.policy.dto.PolicyTermSummaryResponse;
+import java.util.List;
+
+public record PolicyTermSearchResult(
+    List<PolicyTermSummaryResponse> items,
+    boolean hasNext,
+    Long totalElements,
+    PolicyTermCountStrategy totalStrategy) {}
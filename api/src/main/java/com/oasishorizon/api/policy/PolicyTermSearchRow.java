@@ -0,0 +1,59 @@
+package com.oasishorizon.api.policy;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.hibernate.annotations.Immutable;
+
+// Denormalized policy_term + policy row, maintained by database triggers (see V4 migration).
+@Entity
+@Immutable
+@Table(name = "policy_term_search")
+public class PolicyTermSearchRow {
+  @Id
+  @Column(name = "term_id")
+  private UUID id;
+
+  @Column(name = "policy_id", nullable = false)
+  private UUID policyId;
+
+  @Column(name = "policy_number", nullable = false)
+  private String policyNumber;
+
+  @Column(name = "insured_name", nullable = false)
+  private String insuredName;
+
+  @Column(name = "term_number", nullable = false)
+  private int termNumber;
+
+  @Column(name = "state", nullable = false)
+  private String state;
+
+  @Column(name = "status", nullable = false)
+  private String status;
+
+  @Column(name = "effective_from_date", nullable = false)
+  private LocalDate effectiveFromDate;
+
+  @Column(name = "effective_to_date", nullable = false)
+  private LocalDate effectiveToDate;
+
+  @Column(name = "balance_due", nullable = false)
+  private BigDecimal balanceDue;
+
+  @Column(name = "next_due_date")
+  private LocalDate nextDueDate;
+
+  @Column(name = "last_payment_date")
+  private LocalDate lastPaymentDate;
+
+  @Column(name = "updated_at", nullable = false)
+  private Instant updatedAt;
+
+  protected PolicyTermSearchRow() {}
+}
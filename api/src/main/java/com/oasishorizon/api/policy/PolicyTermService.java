@@ -1,90 +1,288 @@
 package com.oasishorizon.api.policy;
 
-import java.time.LocalDate;
-import java.util.ArrayList;
+import com.oasishorizon.api.db.DatabaseAdmission;
+import com.oasishorizon.api.db.DatabaseCoalescingProperties;
+import com.oasishorizon.api.db.SingleFlight;
+import com.oasishorizon.api.metrics.RequestMetrics;
+import com.oasishorizon.api.policy.dto.PolicyTermDetailResponse;
+import com.oasishorizon.api.policy.dto.PolicyTermFacetCount;
+import com.oasishorizon.api.policy.dto.PolicyTermFacetsResponse;
+import com.oasishorizon.api.policy.dto.PolicyTermSummaryResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
-import org.springframework.data.domain.Page;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class PolicyTermService {
+  private static final int EXPORT_FETCH_SIZE = 1_000;
+
   private final PolicyTermRepository policyTermRepository;
+  private final ObjectProvider<PolicyTermMemoryIndex> memoryIndex;
+  private final PolicyTermCache cache;
+  private final PolicyTermVersionTracker versionTracker;
+  private final DatabaseAdmission admission;
+  private final TransactionTemplate readOnlyTransaction;
+  private final MeterRegistry meterRegistry;
+  private final PolicyTermCounter counter;
+  private final PolicyTermPlanCompiler planCompiler;
+  private final SingleFlight<PolicyTermSearchKey, PolicyTermSearchResult> searchCalls;
+  private final SingleFlight<PolicyTermCache.DetailKey, Optional<PolicyTermDetailResponse>>
+      detailCalls;
 
-  public PolicyTermService(PolicyTermRepository policyTermRepository) {
+  public PolicyTermService(
+      PolicyTermRepository policyTermRepository,
+      ObjectProvider<PolicyTermMemoryIndex> memoryIndex,
+      PolicyTermCache cache,
+      PolicyTermVersionTracker versionTracker,
+      DatabaseAdmission admission,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      PolicyTermCounter counter,
+      PolicyTermPlanCompiler planCompiler,
+      DatabaseCoalescingProperties coalescingProperties) {
     this.policyTermRepository = policyTermRepository;
+    this.memoryIndex = memoryIndex;
+    this.cache = cache;
+    this.versionTracker = versionTracker;
+    this.admission = admission;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.meterRegistry = meterRegistry;
+    this.counter = counter;
+    this.planCompiler = planCompiler;
+    this.searchCalls = new SingleFlight<>("search", coalescingProperties, meterRegistry);
+    this.detailCalls = new SingleFlight<>("detail", coalescingProperties, meterRegistry);
+  }
+
+  public PolicyTermSearchResult search(
+      PolicyTermFilter filter,
+      Pageable pageable,
+      Optional<PolicyTermCursor> cursor,
+      boolean includeTotal) {
+    PolicyTermSearchKey key =
+        new PolicyTermSearchKey(filter, pageable, cursor, includeTotal, versionTracker.current());
+    // Identical concurrent misses (same filters, page, sort and data version) share one query.
+    return cache.page(
+        key,
+        missed -> searchCalls.execute(missed, () -> searchUncached(missed, this::searchDatabase)));
+  }
+
+  // Returns the same pages as search and shares its cache, but a database miss binds a compiled
+  // plan for the filter's shape instead of building and translating a Criteria query.
+  public PolicyTermSearchResult searchCompiled(
+      PolicyTermFilter filter,
+      Pageable pageable,
+      Optional<PolicyTermCursor> cursor,
+      boolean includeTotal) {
+    PolicyTermSearchKey key =
+        new PolicyTermSearchKey(filter, pageable, cursor, includeTotal, versionTracker.current());
+    return cache.page(
+        key,
+        missed -> searchCalls.execute(missed, () -> searchUncached(missed, this::searchPlanned)));
+  }
+
+  public String dataVersionTag() {
+    return versionTracker.current().tag();
+  }
+
+  public void export(
+      PolicyTermFilter filter, Sort sort, Consumer<PolicyTermSummaryResponse> sink) {
+    admission.run(
+        () ->
+            readOnlyTransaction.executeWithoutResult(
+                status -> {
+                  try (Stream<PolicyTermSummaryResponse> rows =
+                      policyTermRepository.streamSummaries(
+                          buildSpecification(filter), withIdTiebreaker(sort), EXPORT_FETCH_SIZE)) {
+                    rows.peek(row -> RequestMetrics.addRows(1)).forEach(sink);
+                  }
+                }));
   }
 
-  public Page<PolicyTerm> search(
-      Optional<String> query,
-      Optional<String> state,
-      Optional<String> status,
-      Optional<LocalDate> expFrom,
-      Optional<LocalDate> expTo,
-      Pageable pageable) {
-    Specification<PolicyTerm> specification = buildSpecification(query, state, status, expFrom, expTo);
-    return policyTermRepository.findAll(specification, pageable);
+  public Optional<PolicyTermDetailResponse> findById(UUID termId) {
+    PolicyTermDataVersion version = versionTracker.current();
+    return cache.detail(
+        termId,
+        version,
+        () ->
+            detailCalls.execute(
+                new PolicyTermCache.DetailKey(termId, version),
+                () -> {
+                  Optional<PolicyTermDetailResponse> detail =
+                      readInTransaction(() -> policyTermRepository.findDetailById(termId));
+                  RequestMetrics.addRows(detail.isPresent() ? 1 : 0);
+                  return detail;
+                }));
   }
 
-  public Optional<PolicyTerm> findById(UUID termId) {
-    return policyTermRepository.findById(termId);
+  public Map<UUID, PolicyTermDetailResponse> findByIds(Collection<UUID> termIds) {
+    return cache.details(
+        new HashSet<>(termIds),
+        versionTracker.current(),
+        missing -> {
+          List<PolicyTermDetailResponse> details =
+              readInTransaction(() -> policyTermRepository.findDetailsByIds(missing));
+          RequestMetrics.addRows(details.size());
+          return details;
+        });
   }
 
-  private Specification<PolicyTerm> buildSpecification(
-      Optional<String> query,
-      Optional<String> state,
-      Optional<String> status,
-      Optional<LocalDate> expFrom,
-      Optional<LocalDate> expTo) {
+  public List<PolicyTermDetailResponse> findByPolicyNumber(String policyNumber) {
+    List<PolicyTermDetailResponse> details =
+        readInTransaction(() -> policyTermRepository.findDetailsByPolicyNumber(policyNumber));
+    RequestMetrics.addRows(details.size());
+    return details;
+  }
+
+  public PolicyTermFacetsResponse facets(PolicyTermFilter filter) {
+    List<PolicyTermFacetRow> rows =
+        readInTransaction(() -> policyTermRepository.countFacets(buildSpecification(filter)));
+    RequestMetrics.addRows(rows.size());
+    Map<String, Long> statuses = new TreeMap<>();
+    Map<String, Long> states = new TreeMap<>();
+    Map<String, Long> expirationMonths = new TreeMap<>();
+    long total = 0;
+    for (PolicyTermFacetRow row : rows) {
+      statuses.merge(row.status(), row.count(), Long::sum);
+      states.merge(row.state(), row.count(), Long::sum);
+      expirationMonths.merge(
+          String.format("%04d-%02d", row.year(), row.month()), row.count(), Long::sum);
+      total += row.count();
+    }
+    return new PolicyTermFacetsResponse(
+        toFacetCounts(statuses), toFacetCounts(states), toFacetCounts(expirationMonths), total);
+  }
+
+  private static List<PolicyTermFacetCount> toFacetCounts(Map<String, Long> counts) {
+    return counts.entrySet().stream()
+        .map(entry -> new PolicyTermFacetCount(entry.getKey(), entry.getValue()))
+        .toList();
+  }
+
+  private PolicyTermSearchResult searchUncached(
+      PolicyTermSearchKey key, Function<PolicyTermSearchKey, PolicyTermSearchResult> database) {
+    PolicyTermMemoryIndex index = memoryIndex.getIfAvailable();
+    if (index != null && index.isLoaded()) {
+      return queryTimer("memory", key.pageable().getSort())
+          .record(
+              () ->
+                  index.search(key.filter(), key.pageable(), key.cursor(), key.includeTotal()));
+    }
+    return readInTransaction(() -> database.apply(key));
+  }
+
+  // Every database read takes an admission slot before it can borrow a pooled connection.
+  private <T> T readInTransaction(Supplier<T> work) {
+    return admission.call(() -> readOnlyTransaction.execute(status -> work.get()));
+  }
+
+  private PolicyTermSearchResult searchDatabase(PolicyTermSearchKey key) {
+    PolicyTermFilter filter = key.filter();
+    Pageable pageable = key.pageable();
+    Optional<PolicyTermCursor> cursor = key.cursor();
+    Specification<PolicyTermSearchRow> specification = buildSpecification(filter);
+    Specification<PolicyTermSearchRow> window =
+        cursor.map(after -> specification.and(seekAfter(after))).orElse(specification);
+    long offset = cursor.isPresent() ? 0 : pageable.getOffset();
+    int size = pageable.getPageSize();
+    Sort sort = withIdTiebreaker(pageable.getSort());
+
+    List<PolicyTermSummaryResponse> rows =
+        queryTimer("data", pageable.getSort())
+            .record(() -> policyTermRepository.findSummaries(window, sort, offset, size + 1));
+    return toResult(key, rows, () -> policyTermRepository.countSummaries(specification));
+  }
+
+  private PolicyTermSearchResult searchPlanned(PolicyTermSearchKey key) {
+    PolicyTermFilter filter = key.filter();
+    Pageable pageable = key.pageable();
+    int size = pageable.getPageSize();
+    PolicyTermFilterPlan plan = planCompiler.plan(filter, pageable.getSort().iterator().next());
+
+    Optional<PolicyTermCursor> cursor = key.cursor();
+    Supplier<List<PolicyTermSummaryResponse>> query =
+        cursor.isPresent()
+            ? () -> planCompiler.findSummariesAfter(plan, filter, cursor.get(), size + 1)
+            : () -> planCompiler.findSummaries(plan, filter, pageable.getOffset(), size + 1);
+    List<PolicyTermSummaryResponse> rows = queryTimer("data", pageable.getSort()).record(query);
+    return toResult(key, rows, () -> planCompiler.count(plan, filter));
+  }
+
+  // rows holds up to one row past the page, which only signals that another page follows.
+  private PolicyTermSearchResult toResult(
+      PolicyTermSearchKey key, List<PolicyTermSummaryResponse> rows, Supplier<Long> exactCount) {
+    int size = key.pageable().getPageSize();
+    RequestMetrics.addRows(rows.size());
+    boolean hasNext = rows.size() > size;
+    Optional<PolicyTermTotal> total =
+        key.includeTotal()
+            ? Optional.of(
+                queryTimer("count", key.pageable().getSort())
+                    .record(() -> counter.count(key.filter(), exactCount)))
+            : Optional.empty();
+    return new PolicyTermSearchResult(
+        hasNext ? rows.subList(0, size) : rows,
+        hasNext,
+        total.map(PolicyTermTotal::count).orElse(null),
+        total.map(PolicyTermTotal::strategy).orElse(null));
+  }
+
+  private Timer queryTimer(String phase, Sort sort) {
+    return Timer.builder("oasis.search.query")
+        .tag("phase", phase)
+        .tag("sort", sort.stream().findFirst().map(Sort.Order::getProperty).orElse("none"))
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  private Sort withIdTiebreaker(Sort sort) {
+    Sort.Direction direction =
+        sort.stream().findFirst().map(Sort.Order::getDirection).orElse(Sort.Direction.ASC);
+    return sort.and(Sort.by(direction, "id"));
+  }
+
+  private Specification<PolicyTermSearchRow> seekAfter(PolicyTermCursor cursor) {
     return (root, criteriaQuery, criteriaBuilder) -> {
-      List<jakarta.persistence.criteria.Predicate> predicates = new ArrayList<>();
-      var policyJoin = root.join("policy");
-
-      query.map(String::trim)
-          .filter(value -> !value.isBlank())
-          .ifPresent(
-              value -> {
-                String likeValue = "%" + value.toLowerCase(Locale.US) + "%";
-                predicates.add(
-                    criteriaBuilder.or(
-                        criteriaBuilder.like(
-                            criteriaBuilder.lower(policyJoin.get("policyNumber")), likeValue),
-                        criteriaBuilder.like(
-                            criteriaBuilder.lower(policyJoin.get("insuredName")), likeValue)));
-              });
-
-      state.map(String::trim)
-          .filter(value -> !value.isBlank())
-          .ifPresent(
-              value ->
-                  predicates.add(
-                      criteriaBuilder.equal(
-                          criteriaBuilder.lower(root.get("state")), value.toLowerCase(Locale.US))));
-
-      status.map(String::trim)
-          .filter(value -> !value.isBlank())
-          .ifPresent(
-              value ->
-                  predicates.add(
-                      criteriaBuilder.equal(
-                          criteriaBuilder.lower(root.get("status")), value.toLowerCase(Locale.US))));
-
-      expFrom.ifPresent(
-          date ->
-              predicates.add(
-                  criteriaBuilder.greaterThanOrEqualTo(root.get("effectiveToDate"), date)));
-
-      expTo.ifPresent(
-          date ->
-              predicates.add(
-                  criteriaBuilder.lessThanOrEqualTo(root.get("effectiveToDate"), date)));
-
-      criteriaQuery.distinct(true);
-      return criteriaBuilder.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
+      Expression<?> key = PolicyTermPredicates.sortKey(root, criteriaBuilder, cursor.property());
+      Comparable<?> value = cursor.value();
+      boolean ascending = cursor.direction().isAscending();
+      return criteriaBuilder.or(
+          beyond(criteriaBuilder, key, value, ascending),
+          criteriaBuilder.and(
+              criteriaBuilder.equal(key, value),
+              beyond(criteriaBuilder, root.get("id"), cursor.id(), ascending)));
     };
   }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static jakarta.persistence.criteria.Predicate beyond(
+      CriteriaBuilder criteriaBuilder, Expression key, Comparable value, boolean ascending) {
+    return ascending
+        ? criteriaBuilder.greaterThan(key, value)
+        : criteriaBuilder.lessThan(key, value);
+  }
+
+  static Specification<PolicyTermSearchRow> buildSpecification(PolicyTermFilter filter) {
+    PolicyTermPredicates predicates = PolicyTermPredicates.of(filter);
+    return (root, criteriaQuery, criteriaBuilder) -> predicates.toPredicate(root, criteriaBuilder);
+  }
 }
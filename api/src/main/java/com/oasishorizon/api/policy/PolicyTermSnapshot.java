@@ -0,0 +1,404 @@
+package com.oasishorizon.api.policy;
+
+import com.oasishorizon.api.policy.dto.PolicyTermSummaryResponse;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+// Immutable column store of policy terms; refreshes build a new snapshot and swap it in.
+final class PolicyTermSnapshot {
+  private static final int NO_DATE = Integer.MIN_VALUE;
+  private static final Sort.Order DEFAULT_ORDER = Sort.Order.asc("effectiveToDate");
+
+  private final int size;
+  private final long[] idHigh;
+  private final long[] idLow;
+  private final String[] policyNumbers;
+  private final String[] insuredNames;
+  private final String[] policyNumbersLower;
+  private final String[] insuredNamesLower;
+  private final int[] termNumbers;
+  private final String[] stateDictionary;
+  private final String[] statusDictionary;
+  private final short[] stateCodes;
+  private final short[] statusCodes;
+  private final BitSet[] stateBitmaps;
+  private final BitSet[] statusBitmaps;
+  private final int[] effectiveFromDays;
+  private final int[] effectiveToDays;
+  private final int[] nextDueDays;
+  private final int[] lastPaymentDays;
+  private final long[] balanceCents;
+  private final Map<String, int[]> sortPermutations = new HashMap<>();
+  private final TrigramIndex keywordIndex;
+
+  private PolicyTermSnapshot(List<PolicyTermSummaryResponse> rows) {
+    size = rows.size();
+    idHigh = new long[size];
+    idLow = new long[size];
+    policyNumbers = new String[size];
+    insuredNames = new String[size];
+    policyNumbersLower = new String[size];
+    insuredNamesLower = new String[size];
+    termNumbers = new int[size];
+    stateCodes = new short[size];
+    statusCodes = new short[size];
+    effectiveFromDays = new int[size];
+    effectiveToDays = new int[size];
+    nextDueDays = new int[size];
+    lastPaymentDays = new int[size];
+    balanceCents = new long[size];
+
+    stateDictionary = dictionary(rows.stream().map(PolicyTermSummaryResponse::state).toList());
+    statusDictionary = dictionary(rows.stream().map(PolicyTermSummaryResponse::status).toList());
+    stateBitmaps = bitmaps(stateDictionary.length);
+    statusBitmaps = bitmaps(statusDictionary.length);
+
+    for (int row = 0; row < size; row++) {
+      PolicyTermSummaryResponse term = rows.get(row);
+      idHigh[row] = term.id().getMostSignificantBits();
+      idLow[row] = term.id().getLeastSignificantBits();
+      policyNumbers[row] = term.policyNumber();
+      insuredNames[row] = term.insuredName();
+      policyNumbersLower[row] = term.policyNumber().toLowerCase(Locale.US);
+      insuredNamesLower[row] = term.insuredName().toLowerCase(Locale.US);
+      termNumbers[row] = term.termNumber();
+      stateCodes[row] = (short) code(stateDictionary, term.state());
+      statusCodes[row] = (short) code(statusDictionary, term.status());
+      stateBitmaps[stateCodes[row]].set(row);
+      statusBitmaps[statusCodes[row]].set(row);
+      effectiveFromDays[row] = epochDay(term.effectiveFromDate());
+      effectiveToDays[row] = epochDay(term.effectiveToDate());
+      nextDueDays[row] = epochDay(term.nextDueDate());
+      lastPaymentDays[row] = epochDay(term.lastPaymentDate());
+      balanceCents[row] = term.balanceDue().movePointRight(2).longValueExact();
+    }
+
+    for (String property : List.of(
+        "effectiveToDate",
+        "effectiveFromDate",
+        "policyNumber",
+        "insuredName",
+        "state",
+        "status",
+        "termNumber")) {
+      SortKey key = sortKey(property);
+      sortPermutations.put(
+          property,
+          IntStream.range(0, size)
+              .boxed()
+              .sorted((left, right) -> compareRows(key, left, right))
+              .mapToInt(Integer::intValue)
+              .toArray());
+    }
+    keywordIndex = TrigramIndex.build(size, List.of(policyNumbersLower, insuredNamesLower));
+  }
+
+  static PolicyTermSnapshot of(List<PolicyTermSummaryResponse> rows) {
+    return new PolicyTermSnapshot(rows);
+  }
+
+  // Replaces rows by id; returns this snapshot when every change is already present unchanged.
+  PolicyTermSnapshot merge(List<PolicyTermSummaryResponse> changes) {
+    Map<UUID, PolicyTermSummaryResponse> changesById = new HashMap<>();
+    changes.forEach(change -> changesById.put(change.id(), change));
+    List<PolicyTermSummaryResponse> rows = new ArrayList<>(size + changesById.size());
+    int unchanged = 0;
+    for (int row = 0; row < size; row++) {
+      PolicyTermSummaryResponse current = summary(row);
+      PolicyTermSummaryResponse change = changesById.get(current.id());
+      if (change == null) {
+        rows.add(current);
+      } else if (change.equals(current)) {
+        unchanged++;
+      }
+    }
+    if (unchanged == changesById.size()) {
+      return this;
+    }
+    rows.addAll(changesById.values());
+    return new PolicyTermSnapshot(rows);
+  }
+
+  int size() {
+    return size;
+  }
+
+  PolicyTermSearchResult search(
+      PolicyTermFilter filter,
+      Pageable pageable,
+      Optional<PolicyTermCursor> cursor,
+      boolean includeTotal) {
+    BitSet matches = matches(filter);
+    Sort.Order order = pageable.getSort().stream().findFirst().orElse(DEFAULT_ORDER);
+    int[] permutation = sortPermutations.get(order.getProperty());
+    if (permutation == null) {
+      throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+    }
+    SortKey key = sortKey(order.getProperty());
+    boolean ascending = order.isAscending();
+    int limit = pageable.getPageSize() + 1;
+    long skip = cursor.isPresent() ? 0 : pageable.getOffset();
+
+    List<PolicyTermSummaryResponse> rows = new ArrayList<>(limit);
+    int position = cursor.map(after -> firstPositionAfter(permutation, key, after)).orElse(
+        ascending ? 0 : size - 1);
+    int step = ascending ? 1 : -1;
+    for (; position >= 0 && position < size && rows.size() < limit; position += step) {
+      int row = permutation[position];
+      if (matches.get(row) && skip-- <= 0) {
+        rows.add(summary(row));
+      }
+    }
+
+    boolean hasNext = rows.size() > pageable.getPageSize();
+    return new PolicyTermSearchResult(
+        hasNext ? rows.subList(0, pageable.getPageSize()) : rows,
+        hasNext,
+        includeTotal ? (long) matches.cardinality() : null,
+        includeTotal ? PolicyTermCountStrategy.EXACT : null);
+  }
+
+  private BitSet matches(PolicyTermFilter filter) {
+    BitSet matches = new BitSet(size);
+    matches.set(0, size);
+    if (!filter.states().isEmpty()) {
+      matches.and(union(stateDictionary, stateBitmaps, filter.states()));
+    }
+    if (!filter.statuses().isEmpty()) {
+      matches.and(union(statusDictionary, statusBitmaps, filter.statuses()));
+    }
+    filter.query().ifPresent(query -> matchKeyword(matches, filter, query.toLowerCase(Locale.US)));
+
+    matchDateRange(matches, effectiveToDays, filter.expFrom(), filter.expTo());
+    matchDateRange(matches, days(filter.dateField()), filter.dateFrom(), filter.dateTo());
+    return matches;
+  }
+
+  // Rows without a date never match a range, as with SQL comparisons against NULL.
+  private static void matchDateRange(
+      BitSet matches, int[] days, Optional<LocalDate> fromDate, Optional<LocalDate> toDate) {
+    if (fromDate.isEmpty() && toDate.isEmpty()) {
+      return;
+    }
+    int from = fromDate.map(LocalDate::toEpochDay).map(Math::toIntExact).orElse(NO_DATE);
+    int to = toDate.map(LocalDate::toEpochDay).map(Math::toIntExact).orElse(Integer.MAX_VALUE);
+    for (int row = matches.nextSetBit(0); row >= 0; row = matches.nextSetBit(row + 1)) {
+      if (days[row] == NO_DATE || days[row] < from || days[row] > to) {
+        matches.clear(row);
+      }
+    }
+  }
+
+  private int[] days(PolicyTermDateField field) {
+    return switch (field) {
+      case EFFECTIVE -> effectiveFromDays;
+      case EXPIRATION -> effectiveToDays;
+      case NEXT_DUE -> nextDueDays;
+      case LAST_PAYMENT -> lastPaymentDays;
+    };
+  }
+
+  private void matchKeyword(BitSet matches, PolicyTermFilter filter, String keyword) {
+    BitSet candidates = keywordIndex.candidates(keyword);
+    if (candidates != null) {
+      matches.and(candidates);
+    }
+    boolean prefixOnly = filter.isPolicyNumberPrefix();
+    for (int row = matches.nextSetBit(0); row >= 0; row = matches.nextSetBit(row + 1)) {
+      boolean hit =
+          prefixOnly
+              ? policyNumbersLower[row].startsWith(keyword)
+              : policyNumbersLower[row].contains(keyword)
+                  || insuredNamesLower[row].contains(keyword);
+      if (!hit) {
+        matches.clear(row);
+      }
+    }
+  }
+
+  // Position of the first row strictly beyond the cursor in iteration order.
+  private int firstPositionAfter(int[] permutation, SortKey key, PolicyTermCursor cursor) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (compareToCursor(key, permutation[mid], cursor) <= 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    if (cursor.direction().isAscending()) {
+      return low;
+    }
+    // Descending walks the ascending permutation backwards; skip rows equal to the cursor.
+    int position = low - 1;
+    while (position >= 0 && compareToCursor(key, permutation[position], cursor) >= 0) {
+      position--;
+    }
+    return position;
+  }
+
+  private int compareRows(SortKey key, int left, int right) {
+    int result = key.compare(left, right);
+    return result != 0
+        ? result
+        : compareIds(idHigh[left], idLow[left], idHigh[right], idLow[right]);
+  }
+
+  private int compareToCursor(SortKey key, int row, PolicyTermCursor cursor) {
+    int result = key.compareTo(row, cursor.value());
+    if (result != 0) {
+      return result;
+    }
+    UUID id = cursor.id();
+    return compareIds(
+        idHigh[row], idLow[row], id.getMostSignificantBits(), id.getLeastSignificantBits());
+  }
+
+  // Postgres orders uuid values as unsigned bytes, unlike UUID.compareTo.
+  private static int compareIds(long leftHigh, long leftLow, long rightHigh, long rightLow) {
+    int result = Long.compareUnsigned(leftHigh, rightHigh);
+    return result != 0 ? result : Long.compareUnsigned(leftLow, rightLow);
+  }
+
+  private SortKey sortKey(String property) {
+    return switch (property) {
+      case "effectiveFromDate" -> dateKey(effectiveFromDays);
+      case "policyNumber" -> stringKey(policyNumbers);
+      case "insuredName" -> stringKey(insuredNames);
+      // Dictionaries are sorted, so codes order the same way as the values they encode.
+      case "state" -> codeKey(stateCodes, stateDictionary);
+      case "status" -> codeKey(statusCodes, statusDictionary);
+      case "termNumber" ->
+          new SortKey(
+              (left, right) -> Integer.compare(termNumbers[left], termNumbers[right]),
+              (row, value) -> Integer.compare(termNumbers[row], (Integer) value));
+      default -> dateKey(effectiveToDays);
+    };
+  }
+
+  private static SortKey dateKey(int[] days) {
+    return new SortKey(
+        (left, right) -> Integer.compare(days[left], days[right]),
+        (row, value) -> Long.compare(days[row], ((LocalDate) value).toEpochDay()));
+  }
+
+  private static SortKey stringKey(String[] values) {
+    return new SortKey(
+        (left, right) -> compareCodePoints(values[left], values[right]),
+        (row, value) -> compareCodePoints(values[row], (String) value));
+  }
+
+  private static SortKey codeKey(short[] codes, String[] dictionary) {
+    return new SortKey(
+        (left, right) -> Short.compare(codes[left], codes[right]),
+        (row, value) -> compareCodePoints(dictionary[codes[row]], (String) value));
+  }
+
+  private PolicyTermSummaryResponse summary(int row) {
+    return new PolicyTermSummaryResponse(
+        id(row),
+        policyNumbers[row],
+        insuredNames[row],
+        termNumbers[row],
+        stateDictionary[stateCodes[row]],
+        statusDictionary[statusCodes[row]],
+        date(effectiveFromDays[row]),
+        date(effectiveToDays[row]),
+        BigDecimal.valueOf(balanceCents[row], 2),
+        date(nextDueDays[row]),
+        date(lastPaymentDays[row]));
+  }
+
+  private UUID id(int row) {
+    return new UUID(idHigh[row], idLow[row]);
+  }
+
+  private static BitSet union(String[] dictionary, BitSet[] bitmaps, List<String> values) {
+    BitSet union = new BitSet();
+    for (String value : values) {
+      int code = code(dictionary, value);
+      if (code >= 0) {
+        union.or(bitmaps[code]);
+      }
+    }
+    return union;
+  }
+
+  private static int code(String[] dictionary, String value) {
+    return Arrays.binarySearch(dictionary, value, PolicyTermSnapshot::compareCodePoints);
+  }
+
+  // Code point order, as Postgres sorts under ucs_basic (see PolicyTermPredicates). Unlike
+  // String.compareTo, it puts supplementary characters after U+E000..U+FFFF.
+  static int compareCodePoints(String left, String right) {
+    int length = Math.min(left.length(), right.length());
+    for (int i = 0; i < length; i++) {
+      int leftChar = left.charAt(i);
+      int rightChar = right.charAt(i);
+      if (leftChar != rightChar) {
+        // Only surrogates and U+E000..U+FFFF disagree; move surrogates above the rest of the BMP.
+        if (leftChar >= 0xD800 && rightChar >= 0xD800) {
+          leftChar += leftChar >= 0xE000 ? -0x800 : 0x2000;
+          rightChar += rightChar >= 0xE000 ? -0x800 : 0x2000;
+        }
+        return leftChar - rightChar;
+      }
+    }
+    return left.length() - right.length();
+  }
+
+  private static String[] dictionary(List<String> values) {
+    TreeSet<String> dictionary = new TreeSet<>(PolicyTermSnapshot::compareCodePoints);
+    dictionary.addAll(values);
+    return dictionary.toArray(new String[0]);
+  }
+
+  private static BitSet[] bitmaps(int count) {
+    BitSet[] bitmaps = new BitSet[count];
+    Arrays.setAll(bitmaps, code -> new BitSet());
+    return bitmaps;
+  }
+
+  private static int epochDay(LocalDate date) {
+    return date == null ? NO_DATE : Math.toIntExact(date.toEpochDay());
+  }
+
+  private static LocalDate date(int epochDay) {
+    return epochDay == NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+  }
+
+  private record SortKey(RowComparator rows, CursorComparator cursor) {
+    int compare(int left, int right) {
+      return rows.compare(left, right);
+    }
+
+    int compareTo(int row, Comparable<?> value) {
+      return cursor.compare(row, value);
+    }
+  }
+
+  @FunctionalInterface
+  private interface RowComparator {
+    int compare(int left, int right);
+  }
+
+  @FunctionalInterface
+  private interface CursorComparator {
+    int compare(int row, Comparable<?> value);
+  }
+}
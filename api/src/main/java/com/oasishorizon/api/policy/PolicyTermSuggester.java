@@ -0,0 +1,113 @@
+package com.oasishorizon.api.policy;
+
+import com.oasishorizon.api.policy.dto.PolicyTermSuggestion;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PolicyTermSuggester {
+  private static final Logger logger = LoggerFactory.getLogger(PolicyTermSuggester.class);
+  private static final String SELECT_POLICIES =
+      "SELECT p.id, p.policy_number, p.insured_name, t.id AS term_id "
+          + "FROM policy p LEFT JOIN policy_term t ON t.policy_id = p.id ";
+  private static final String ORDER_BY = "ORDER BY p.id, t.term_number";
+  // A new or changed term changes the policy's term list even when the policy row is untouched.
+  private static final String CHANGED_SINCE =
+      "WHERE p.updated_at >= ? "
+          + "OR p.id IN (SELECT policy_id FROM policy_term WHERE updated_at >= ?) ";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final PolicyTermVersionTracker versionTracker;
+  private final PolicyTermSuggestProperties properties;
+
+  private volatile PolicySuggestIndex index;
+  private Instant watermark = Instant.EPOCH;
+
+  public PolicyTermSuggester(
+      JdbcTemplate jdbcTemplate,
+      PolicyTermVersionTracker versionTracker,
+      PolicyTermSuggestProperties properties) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.versionTracker = versionTracker;
+    this.properties = properties;
+  }
+
+  public List<PolicyTermSuggestion> suggest(String query, int limit) {
+    PolicySuggestIndex current = index;
+    if (current == null) {
+      load();
+      current = index;
+    }
+    return current.suggest(query, limit);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void load() {
+    Instant latest = versionTracker.read().latestUpdate();
+    List<PolicySuggestIndex.Source> policies = fetch(SELECT_POLICIES + ORDER_BY);
+    index = PolicySuggestIndex.EMPTY.merge(policies);
+    watermark = latest;
+    logger.info("Loaded {} policies into the suggest index.", policies.size());
+  }
+
+  // Merging rebuilds every key array, so it must not hold up the publishing scheduler thread.
+  @Async
+  @EventListener
+  public synchronized void onDataChanged(PolicyTermDataChangedEvent event) {
+    if (index == null) {
+      load();
+      return;
+    }
+    PolicyTermDataVersion version = event.current();
+    // Re-read an overlap window behind the watermark: a writer that commits late can carry an
+    // updated_at below it. The merge replaces policies by id, so re-reading them is harmless.
+    Timestamp since = Timestamp.from(watermark.minus(properties.refreshOverlap()));
+    List<PolicySuggestIndex.Source> changes =
+        fetch(SELECT_POLICIES + CHANGED_SINCE + ORDER_BY, since, since);
+    index = index.merge(changes);
+    if (version.latestUpdate().isAfter(watermark)) {
+      watermark = version.latestUpdate();
+    }
+    logger.debug("Merged {} changed policies into the suggest index.", changes.size());
+    // Deletes (and inserts carrying old timestamps, e.g. a reseed) don't move the watermark.
+    if (index.termCount() != version.rowCount()) {
+      load();
+    }
+  }
+
+  private List<PolicySuggestIndex.Source> fetch(String sql, Object... args) {
+    List<PolicySuggestIndex.Source> policies = new ArrayList<>();
+    jdbcTemplate.query(
+        sql,
+        resultSet -> {
+          UUID policyId = resultSet.getObject("id", UUID.class);
+          PolicySuggestIndex.Source last =
+              policies.isEmpty() ? null : policies.get(policies.size() - 1);
+          if (last == null || !last.id().equals(policyId)) {
+            last =
+                new PolicySuggestIndex.Source(
+                    policyId,
+                    resultSet.getString("policy_number"),
+                    resultSet.getString("insured_name"),
+                    new ArrayList<>());
+            policies.add(last);
+          }
+          UUID termId = resultSet.getObject("term_id", UUID.class);
+          if (termId != null) {
+            last.termIds().add(termId);
+          }
+        },
+        args);
+    return policies;
+  }
+}
@@ -0,0 +1,3 @@
+package com.oasishorizon.api.policy;
+
+record PolicyTermTotal(long count, PolicyTermCountStrategy strategy) {}
@@ -0,0 +1,47 @@
+package com.oasishorizon.api.policy;
+
+import java.time.Instant;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PolicyTermVersionTracker {
+  private final PolicyTermRepository policyTermRepository;
+  private final PolicyRepository policyRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  private volatile PolicyTermDataVersion current;
+
+  public PolicyTermVersionTracker(
+      PolicyTermRepository policyTermRepository,
+      PolicyRepository policyRepository,
+      ApplicationEventPublisher eventPublisher) {
+    this.policyTermRepository = policyTermRepository;
+    this.policyRepository = policyRepository;
+    this.eventPublisher = eventPublisher;
+  }
+
+  public PolicyTermDataVersion current() {
+    PolicyTermDataVersion version = current;
+    return version != null ? version : refresh();
+  }
+
+  public PolicyTermDataVersion read() {
+    Instant terms = policyTermRepository.findMaxUpdatedAt().orElse(Instant.EPOCH);
+    Instant policies = policyRepository.findMaxUpdatedAt().orElse(Instant.EPOCH);
+    return new PolicyTermDataVersion(
+        terms.isAfter(policies) ? terms : policies, policyTermRepository.count());
+  }
+
+  @Scheduled(fixedDelayString = "${oasis.cache.version-check-interval:PT5S}")
+  public synchronized PolicyTermDataVersion refresh() {
+    PolicyTermDataVersion previous = current;
+    PolicyTermDataVersion latest = read();
+    current = latest;
+    if (previous != null && !previous.equals(latest)) {
+      eventPublisher.publishEvent(new PolicyTermDataChangedEvent(previous, latest));
+    }
+    return latest;
+  }
+}
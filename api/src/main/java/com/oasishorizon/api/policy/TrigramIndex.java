@@ -0,0 +1,98 @@
+package com.oasishorizon.api.policy;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class TrigramIndex {
+  static final int GRAM_LENGTH = 3;
+
+  private final Map<Long, int[]> postings;
+
+  private TrigramIndex(Map<Long, int[]> postings) {
+    this.postings = postings;
+  }
+
+  static TrigramIndex build(int rowCount, List<String[]> fields) {
+    Map<Long, RowList> building = new HashMap<>();
+    for (int row = 0; row < rowCount; row++) {
+      long[] grams = new long[0];
+      for (String[] field : fields) {
+        long[] fieldGrams = grams(field[row]);
+        long[] merged = Arrays.copyOf(grams, grams.length + fieldGrams.length);
+        System.arraycopy(fieldGrams, 0, merged, grams.length, fieldGrams.length);
+        grams = merged;
+      }
+      Arrays.sort(grams);
+      for (int i = 0; i < grams.length; i++) {
+        if (i == 0 || grams[i] != grams[i - 1]) {
+          building.computeIfAbsent(grams[i], gram -> new RowList()).add(row);
+        }
+      }
+    }
+    Map<Long, int[]> postings = new HashMap<>(building.size() * 2);
+    building.forEach((gram, rows) -> postings.put(gram, rows.toArray()));
+    return new TrigramIndex(postings);
+  }
+
+  // Null means the text is shorter than a trigram; candidates still need exact verification.
+  BitSet candidates(String lowerCaseText) {
+    long[] grams = grams(lowerCaseText);
+    if (grams.length == 0) {
+      return null;
+    }
+    int[][] lists = new int[grams.length][];
+    for (int i = 0; i < grams.length; i++) {
+      int[] rows = postings.get(grams[i]);
+      if (rows == null) {
+        return new BitSet();
+      }
+      lists[i] = rows;
+    }
+    Arrays.sort(lists, Comparator.comparingInt(rows -> rows.length));
+    BitSet result = toBitSet(lists[0]);
+    for (int i = 1; i < lists.length && !result.isEmpty(); i++) {
+      result.and(toBitSet(lists[i]));
+    }
+    return result;
+  }
+
+  private static BitSet toBitSet(int[] rows) {
+    BitSet bits = new BitSet(rows.length == 0 ? 0 : rows[rows.length - 1] + 1);
+    for (int row : rows) {
+      bits.set(row);
+    }
+    return bits;
+  }
+
+  private static long[] grams(String value) {
+    int count = Math.max(0, value.length() - GRAM_LENGTH + 1);
+    long[] grams = new long[count];
+    for (int i = 0; i < count; i++) {
+      grams[i] =
+          ((long) value.charAt(i) << 32)
+              | ((long) value.charAt(i + 1) << 16)
+              | value.charAt(i + 2);
+    }
+    return grams;
+  }
+
+  private static final class RowList {
+    private int[] rows = new int[4];
+    private int size;
+
+    void add(int row) {
+      if (size == rows.length) {
+        rows = Arrays.copyOf(rows, size * 2);
+      }
+      rows[size++] = row;
+    }
+
+    int[] toArray() {
+      return Arrays.copyOf(rows, size);
+    }
+  }
+}
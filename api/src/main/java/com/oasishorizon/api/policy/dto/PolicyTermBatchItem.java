@@ -0,0 +1,5 @@
+package com.oasishorizon.api.policy.dto;
+
+import java.util.UUID;
+
+public record PolicyTermBatchItem(UUID id, boolean found, PolicyTermDetailResponse term) {}
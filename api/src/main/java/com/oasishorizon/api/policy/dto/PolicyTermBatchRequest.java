@@ -0,0 +1,7 @@
+package com.oasishorizon.api.policy.dto;
+
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+public record PolicyTermBatchRequest(@Size(max = 500) List<UUID> ids, String policyNumber) {}
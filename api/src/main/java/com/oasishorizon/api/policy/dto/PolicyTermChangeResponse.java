@@ -0,0 +1,20 @@
+package com.oasishorizon.api.policy.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record PolicyTermChangeResponse(
+    UUID id,
+    String policyNumber,
+    String insuredName,
+    int termNumber,
+    String state,
+    String status,
+    LocalDate effectiveFromDate,
+    LocalDate effectiveToDate,
+    BigDecimal balanceDue,
+    LocalDate nextDueDate,
+    LocalDate lastPaymentDate,
+    Instant updatedAt) {}
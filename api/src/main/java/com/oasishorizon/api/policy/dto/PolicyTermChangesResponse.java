@@ -0,0 +1,6 @@
+package com.oasishorizon.api.policy.dto;
+
+import java.util.List;
+
+public record PolicyTermChangesResponse(
+    List<PolicyTermChangeResponse> items, boolean hasMore, String nextToken) {}
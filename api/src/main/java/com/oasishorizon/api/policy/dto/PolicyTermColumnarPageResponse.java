@@ -0,0 +1,11 @@
+package com.oasishorizon.api.policy.dto;
+
+public record PolicyTermColumnarPageResponse(
+    int rowCount,
+    PolicyTermColumns columns,
+    int page,
+    int size,
+    Long totalElements,
+    Integer totalPages,
+    String totalStrategy,
+    String nextCursor) {}
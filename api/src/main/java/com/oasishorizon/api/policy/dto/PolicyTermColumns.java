@@ -0,0 +1,19 @@
+package com.oasishorizon.api.policy.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public record PolicyTermColumns(
+    List<UUID> id,
+    List<String> policyNumber,
+    List<String> insuredName,
+    int[] termNumber,
+    PolicyTermDictionaryColumn state,
+    PolicyTermDictionaryColumn status,
+    List<LocalDate> effectiveFromDate,
+    List<LocalDate> effectiveToDate,
+    List<BigDecimal> balanceDue,
+    List<LocalDate> nextDueDate,
+    List<LocalDate> lastPaymentDate) {}
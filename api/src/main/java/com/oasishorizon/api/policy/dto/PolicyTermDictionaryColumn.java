@@ -0,0 +1,5 @@
+package com.oasishorizon.api.policy.dto;
+
+import java.util.List;
+
+public record PolicyTermDictionaryColumn(List<String> dictionary, int[] codes) {}
@@ -0,0 +1,3 @@
+package com.oasishorizon.api.policy.dto;
+
+public record PolicyTermFacetCount(String value, long count) {}
@@ -0,0 +1,9 @@
+package com.oasishorizon.api.policy.dto;
+
+import java.util.List;
+
+public record PolicyTermFacetsResponse(
+    List<PolicyTermFacetCount> statuses,
+    List<PolicyTermFacetCount> states,
+    List<PolicyTermFacetCount> expirationMonths,
+    long totalElements) {}
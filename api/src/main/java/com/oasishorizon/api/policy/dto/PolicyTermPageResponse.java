@@ -6,5 +6,7 @@ public record PolicyTermPageResponse(
     List<PolicyTermSummaryResponse> items,
     int page,
     int size,
-    long totalElements,
-    int totalPages) {}
+    Long totalElements,
+    Integer totalPages,
+    String totalStrategy,
+    String nextCursor) {}
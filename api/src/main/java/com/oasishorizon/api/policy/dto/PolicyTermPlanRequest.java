@@ -0,0 +1,24 @@
+package com.oasishorizon.api.policy.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.util.List;
+
+// Structured filters as produced by the copilot: the list endpoint's parameters as camelCase JSON
+// fields, with the repeatable state and status parameters as the states and statuses arrays.
+public record PolicyTermPlanRequest(
+    @Size(max = 200) String q,
+    @Size(max = 100) List<String> states,
+    @Size(max = 20) List<String> statuses,
+    LocalDate expFrom,
+    LocalDate expTo,
+    String dateField,
+    LocalDate dateFrom,
+    LocalDate dateTo,
+    String sort,
+    @Min(0) Integer page,
+    @Min(1) @Max(200) Integer size,
+    String cursor,
+    Boolean includeTotal) {}
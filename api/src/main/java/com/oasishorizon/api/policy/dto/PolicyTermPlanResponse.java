@@ -0,0 +1,5 @@
+package com.oasishorizon.api.policy.dto;
+
+// filters echoes the request after validation and normalization, with defaults filled in.
+public record PolicyTermPlanResponse(
+    PolicyTermPlanRequest filters, PolicyTermPageResponse page) {}
@@ -0,0 +1,5 @@
+package com.oasishorizon.api.policy.dto;
+
+import java.util.List;
+
+public record PolicyTermSuggestResponse(List<PolicyTermSuggestion> items) {}
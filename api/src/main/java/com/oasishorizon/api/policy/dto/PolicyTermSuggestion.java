@@ -0,0 +1,11 @@
+package com.oasishorizon.api.policy.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record PolicyTermSuggestion(
+    UUID policyId,
+    String policyNumber,
+    String insuredName,
+    String matchedField,
+    List<UUID> termIds) {}
@@ -0,0 +1,170 @@
+package com.oasishorizon.api.portfolio;
+
+import com.oasishorizon.api.policy.PolicyTermDataChangedEvent;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class PortfolioAggregateRefresher {
+  private static final Logger logger = LoggerFactory.getLogger(PortfolioAggregateRefresher.class);
+
+  // Recorded by V12's truncate trigger in place of the ids it cannot list.
+  private static final UUID TRUNCATED = new UUID(0, 0);
+
+  private static final String CREATE_CHANGES =
+      "CREATE TEMP TABLE portfolio_changes (LIKE portfolio_billing_contribution) ON COMMIT DROP";
+  private static final String CREATE_PENDING =
+      "CREATE TEMP TABLE portfolio_pending (term_id UUID PRIMARY KEY) ON COMMIT DROP";
+  // Takes exactly the rows it will apply; ids recorded by later commits stay for the next refresh.
+  private static final String TAKE_PENDING =
+      "WITH taken AS (DELETE FROM portfolio_pending_term RETURNING term_id) "
+          + "INSERT INTO portfolio_pending SELECT DISTINCT term_id FROM taken";
+  private static final String COLLECT_CHANGES =
+      "INSERT INTO portfolio_changes "
+          + "SELECT id, state, status, "
+          + "coalesce(next_due_date, 'infinity'::date), "
+          + "coalesce(last_payment_date < next_due_date, false), "
+          + "(balance_due * 100)::bigint "
+          + "FROM policy_term WHERE id IN ("
+          + "SELECT id FROM policy_term WHERE updated_at > ? AND updated_at <= ? "
+          + "UNION SELECT term_id FROM portfolio_pending)";
+  // Pending ids that no longer exist are deletes: their old contribution is subtracted too.
+  private static final String SUBTRACT_PREVIOUS =
+      "UPDATE portfolio_billing_aggregate a "
+          + "SET term_count = a.term_count - p.term_count, "
+          + "balance_cents = a.balance_cents - p.balance_cents "
+          + "FROM (SELECT c.state, c.status, c.next_due_date, c.overdue, "
+          + "count(*) AS term_count, sum(c.balance_cents) AS balance_cents "
+          + "FROM portfolio_billing_contribution c "
+          + "JOIN (SELECT term_id FROM portfolio_changes "
+          + "UNION SELECT term_id FROM portfolio_pending) ch ON ch.term_id = c.term_id "
+          + "GROUP BY c.state, c.status, c.next_due_date, c.overdue) p "
+          + "WHERE a.state = p.state AND a.status = p.status "
+          + "AND a.next_due_date = p.next_due_date AND a.overdue = p.overdue";
+  private static final String REMOVE_DELETED =
+      "DELETE FROM portfolio_billing_contribution c USING portfolio_pending p "
+          + "WHERE c.term_id = p.term_id "
+          + "AND NOT EXISTS (SELECT 1 FROM portfolio_changes ch WHERE ch.term_id = p.term_id)";
+  private static final String UPSERT_CONTRIBUTIONS =
+      "INSERT INTO portfolio_billing_contribution "
+          + "(term_id, state, status, next_due_date, overdue, balance_cents) "
+          + "SELECT term_id, state, status, next_due_date, overdue, balance_cents "
+          + "FROM portfolio_changes "
+          + "ON CONFLICT (term_id) DO UPDATE SET state = EXCLUDED.state, "
+          + "status = EXCLUDED.status, next_due_date = EXCLUDED.next_due_date, "
+          + "overdue = EXCLUDED.overdue, balance_cents = EXCLUDED.balance_cents";
+  private static final String ADD_CURRENT =
+      "INSERT INTO portfolio_billing_aggregate "
+          + "(state, status, next_due_date, overdue, term_count, balance_cents) "
+          + "SELECT state, status, next_due_date, overdue, count(*), sum(balance_cents) "
+          + "FROM portfolio_changes GROUP BY state, status, next_due_date, overdue "
+          + "ON CONFLICT (state, status, next_due_date, overdue) DO UPDATE SET "
+          + "term_count = portfolio_billing_aggregate.term_count + EXCLUDED.term_count, "
+          + "balance_cents = portfolio_billing_aggregate.balance_cents + EXCLUDED.balance_cents";
+  private static final String REBUILD_CONTRIBUTIONS =
+      "INSERT INTO portfolio_billing_contribution "
+          + "(term_id, state, status, next_due_date, overdue, balance_cents) "
+          + "SELECT id, state, status, coalesce(next_due_date, 'infinity'::date), "
+          + "coalesce(last_payment_date < next_due_date, false), "
+          + "(balance_due * 100)::bigint FROM policy_term";
+  private static final String REBUILD_AGGREGATE =
+      "INSERT INTO portfolio_billing_aggregate "
+          + "(state, status, next_due_date, overdue, term_count, balance_cents) "
+          + "SELECT state, status, next_due_date, overdue, count(*), sum(balance_cents) "
+          + "FROM portfolio_billing_contribution "
+          + "GROUP BY state, status, next_due_date, overdue";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transaction;
+  private final PortfolioProperties properties;
+
+  public PortfolioAggregateRefresher(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      PortfolioProperties properties) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transaction = new TransactionTemplate(transactionManager);
+    this.properties = properties;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onReady() {
+    refresh();
+  }
+
+  // A refresh can take seconds; run it off the scheduler thread that publishes the event.
+  @Async
+  @EventListener
+  public void onDataChanged(PolicyTermDataChangedEvent event) {
+    refresh();
+  }
+
+  public synchronized void refresh() {
+    transaction.executeWithoutResult(status -> refreshInTransaction());
+  }
+
+  private void refreshInTransaction() {
+    // The row lock serializes refreshes across application instances.
+    Instant watermark =
+        jdbcTemplate
+            .queryForObject(
+                "SELECT watermark FROM portfolio_refresh_state WHERE id = 1 FOR UPDATE",
+                Timestamp.class)
+            .toInstant();
+    Timestamp latest =
+        jdbcTemplate.queryForObject("SELECT max(updated_at) FROM policy_term", Timestamp.class);
+    jdbcTemplate.execute(CREATE_PENDING);
+    jdbcTemplate.update(TAKE_PENDING);
+    Boolean truncated =
+        jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM portfolio_pending WHERE term_id = ?)",
+            Boolean.class,
+            TRUNCATED);
+    if (latest == null || watermark.equals(Instant.EPOCH) || truncated) {
+      rebuild();
+    } else {
+      refreshIncrementally(watermark, latest);
+    }
+    if (latest != null) {
+      jdbcTemplate.update(
+          "UPDATE portfolio_refresh_state SET watermark = ? WHERE id = 1", latest);
+    }
+  }
+
+  private void refreshIncrementally(Instant watermark, Timestamp latest) {
+    // Re-reading an overlap window is safe because each term's previous contribution is
+    // subtracted before its current one is added, and it catches late-committing writers.
+    // Inserts and deletes also arrive through portfolio_pending_term (V12), whatever their
+    // timestamps.
+    Instant since = watermark.minus(properties.refreshOverlap());
+    jdbcTemplate.execute(CREATE_CHANGES);
+    jdbcTemplate.update(COLLECT_CHANGES, Timestamp.from(since), latest);
+    jdbcTemplate.update(SUBTRACT_PREVIOUS);
+    int removed = jdbcTemplate.update(REMOVE_DELETED);
+    int changed = jdbcTemplate.update(UPSERT_CONTRIBUTIONS);
+    jdbcTemplate.update(ADD_CURRENT);
+    jdbcTemplate.update("DELETE FROM portfolio_billing_aggregate WHERE term_count = 0");
+    logger.debug(
+        "Applied {} changed and {} deleted policy terms to the portfolio aggregate.",
+        changed,
+        removed);
+  }
+
+  private void rebuild() {
+    jdbcTemplate.execute(
+        "TRUNCATE TABLE portfolio_billing_contribution, portfolio_billing_aggregate");
+    int rows = jdbcTemplate.update(REBUILD_CONTRIBUTIONS);
+    jdbcTemplate.update(REBUILD_AGGREGATE);
+    logger.info("Rebuilt the portfolio aggregate from {} policy terms.", rows);
+  }
+}
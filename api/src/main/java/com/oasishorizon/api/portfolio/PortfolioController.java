@@ -0,0 +1,28 @@
+package com.oasishorizon.api.portfolio;
+
+import com.oasishorizon.api.portfolio.dto.PortfolioSummaryResponse;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/portfolio")
+public class PortfolioController {
+  private final PortfolioSummaryService portfolioSummaryService;
+
+  public PortfolioController(PortfolioSummaryService portfolioSummaryService) {
+    this.portfolioSummaryService = portfolioSummaryService;
+  }
+
+  @GetMapping("/summary")
+  public PortfolioSummaryResponse getSummary(
+      @RequestParam(name = "as_of", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate asOf) {
+    return portfolioSummaryService.summary(Optional.ofNullable(asOf).orElseGet(LocalDate::now));
+  }
+}
@@ -0,0 +1,8 @@
+package com.oasishorizon.api.portfolio;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "oasis.portfolio")
+public record PortfolioProperties(@DefaultValue("1m") Duration refreshOverlap) {}
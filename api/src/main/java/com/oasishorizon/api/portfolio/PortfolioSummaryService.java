@@ -0,0 +1,86 @@
+package com.oasishorizon.api.portfolio;
+
+import com.oasishorizon.api.db.DatabaseAdmission;
+import com.oasishorizon.api.portfolio.dto.PortfolioSummaryResponse;
+import com.oasishorizon.api.portfolio.dto.PortfolioSummaryRow;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PortfolioSummaryService {
+  // Due windows are evaluated at read time over per-day buckets, so they never go stale.
+  private static final String SUMMARY =
+      "SELECT state, status, sum(term_count), sum(balance_cents), "
+          + "coalesce(sum(term_count) FILTER (WHERE next_due_date BETWEEN ? AND ?), 0), "
+          + "coalesce(sum(term_count) FILTER (WHERE next_due_date BETWEEN ? AND ?), 0), "
+          + "coalesce(sum(term_count) FILTER (WHERE next_due_date BETWEEN ? AND ?), 0), "
+          + "coalesce(sum(term_count) FILTER (WHERE overdue), 0), "
+          + "coalesce(sum(balance_cents) FILTER (WHERE overdue), 0) "
+          + "FROM portfolio_billing_aggregate "
+          + "GROUP BY state, status ORDER BY state, status";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final DatabaseAdmission admission;
+
+  public PortfolioSummaryService(JdbcTemplate jdbcTemplate, DatabaseAdmission admission) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.admission = admission;
+  }
+
+  public PortfolioSummaryResponse summary(LocalDate asOf) {
+    List<PortfolioSummaryRow> rows =
+        admission.call(
+            () ->
+                jdbcTemplate.query(
+                    SUMMARY,
+                    (resultSet, rowNum) ->
+                        new PortfolioSummaryRow(
+                            resultSet.getString(1),
+                            resultSet.getString(2),
+                            resultSet.getLong(3),
+                            resultSet.getLong(4),
+                            resultSet.getLong(5),
+                            resultSet.getLong(6),
+                            resultSet.getLong(7),
+                            resultSet.getLong(8),
+                            resultSet.getLong(9)),
+                    asOf,
+                    asOf.plusDays(30),
+                    asOf,
+                    asOf.plusDays(60),
+                    asOf,
+                    asOf.plusDays(90)));
+    return new PortfolioSummaryResponse(asOf, rows, totals(rows));
+  }
+
+  private static PortfolioSummaryRow totals(List<PortfolioSummaryRow> rows) {
+    long termCount = 0;
+    long balanceDueCents = 0;
+    long dueWithin30Days = 0;
+    long dueWithin60Days = 0;
+    long dueWithin90Days = 0;
+    long overdueCount = 0;
+    long overdueBalanceCents = 0;
+    for (PortfolioSummaryRow row : rows) {
+      termCount += row.termCount();
+      balanceDueCents += row.balanceDueCents();
+      dueWithin30Days += row.dueWithin30Days();
+      dueWithin60Days += row.dueWithin60Days();
+      dueWithin90Days += row.dueWithin90Days();
+      overdueCount += row.overdueCount();
+      overdueBalanceCents += row.overdueBalanceCents();
+    }
+    return new PortfolioSummaryRow(
+        null,
+        null,
+        termCount,
+        balanceDueCents,
+        dueWithin30Days,
+        dueWithin60Days,
+        dueWithin90Days,
+        overdueCount,
+        overdueBalanceCents);
+  }
+}
@@ -0,0 +1,7 @@
+package com.oasishorizon.api.portfolio.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record PortfolioSummaryResponse(
+    LocalDate asOf, List<PortfolioSummaryRow> rows, PortfolioSummaryRow totals) {}
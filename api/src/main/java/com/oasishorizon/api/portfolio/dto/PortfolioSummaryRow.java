@@ -0,0 +1,12 @@
+package com.oasishorizon.api.portfolio.dto;
+
+public record PortfolioSummaryRow(
+    String state,
+    String status,
+    long termCount,
+    long balanceDueCents,
+    long dueWithin30Days,
+    long dueWithin60Days,
+    long dueWithin90Days,
+    long overdueCount,
+    long overdueBalanceCents) {}
@@ -0,0 +1,18 @@
+package com.oasishorizon.api.seed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "oasis.seed")
+public record PolicySeedProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("0") int policyCount,
+    @DefaultValue("5000") int chunkSize,
+    @DefaultValue("0") int parallelism,
+    @DefaultValue("true") boolean async) {
+  public int effectiveParallelism() {
+    return parallelism > 0
+        ? parallelism
+        : Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), 4));
+  }
+}
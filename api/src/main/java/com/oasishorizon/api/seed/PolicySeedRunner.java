@@ -1,19 +1,29 @@
 package com.oasishorizon.api.seed;
 
-import com.oasishorizon.api.policy.Policy;
-import com.oasishorizon.api.policy.PolicyRepository;
-import com.oasishorizon.api.policy.PolicyTerm;
-import com.oasishorizon.api.policy.PolicyTermRepository;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.ApplicationArguments;
@@ -21,13 +31,21 @@ import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Profile;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @Profile("local")
 public class PolicySeedRunner implements ApplicationRunner {
   private static final Logger logger = LoggerFactory.getLogger(PolicySeedRunner.class);
   private static final long RANDOM_SEED = 49201L;
+  private static final LocalDate ANCHOR_DATE = LocalDate.of(2024, 1, 1);
+
+  private static final String COPY_POLICY =
+      "COPY policy (id, policy_number, insured_name, created_at, updated_at) "
+          + "FROM STDIN WITH (FORMAT csv)";
+  private static final String COPY_POLICY_TERM =
+      "COPY policy_term (id, policy_id, term_number, state, status, effective_from_date, "
+          + "effective_to_date, balance_due, next_due_date, last_payment_date, created_at, "
+          + "updated_at) FROM STDIN WITH (FORMAT csv)";
 
   private static final String[] STATES = {
     "CA", "TX", "NY", "FL", "IL", "WA", "OR", "AZ", "CO", "GA"
@@ -47,92 +65,183 @@ public class PolicySeedRunner implements ApplicationRunner {
   };
 
   private final JdbcTemplate jdbcTemplate;
-  private final PolicyRepository policyRepository;
-  private final PolicyTermRepository policyTermRepository;
+  private final DataSource dataSource;
+  private final PolicySeedProperties properties;
+
+  private volatile PolicySeedStatus status;
 
   public PolicySeedRunner(
-      JdbcTemplate jdbcTemplate,
-      PolicyRepository policyRepository,
-      PolicyTermRepository policyTermRepository) {
+      JdbcTemplate jdbcTemplate, DataSource dataSource, PolicySeedProperties properties) {
     this.jdbcTemplate = jdbcTemplate;
-    this.policyRepository = policyRepository;
-    this.policyTermRepository = policyTermRepository;
+    this.dataSource = dataSource;
+    this.properties = properties;
+    this.status = properties.enabled() ? PolicySeedStatus.PENDING : PolicySeedStatus.DISABLED;
   }
 
+  public PolicySeedStatus status() {
+    return status;
+  }
+
+  // Seeding in the background lets the app start serving at once; /ready holds traffic until
+  // the seed is done.
   @Override
-  @Transactional
-  public void run(ApplicationArguments args) {
+  public void run(ApplicationArguments args) throws Exception {
+    // The local profile enables the seed; fast-startup disables it so restarts keep the data.
+    if (!properties.enabled()) {
+      logger.info("Policy seed disabled; keeping the existing policy data.");
+      return;
+    }
+    status = PolicySeedStatus.RUNNING;
+    if (!properties.async()) {
+      seedOrFail();
+      return;
+    }
+    Thread.ofPlatform()
+        .name("policy-seed")
+        .daemon(true)
+        .start(
+            () -> {
+              try {
+                seedOrFail();
+              } catch (Exception ex) {
+                logger.error("Policy seed failed.", ex);
+              }
+            });
+  }
+
+  private void seedOrFail() throws Exception {
+    try {
+      seed();
+      status = PolicySeedStatus.DONE;
+    } catch (Exception ex) {
+      status = PolicySeedStatus.FAILED;
+      throw ex;
+    }
+  }
+
+  private void seed() throws Exception {
     jdbcTemplate.execute("TRUNCATE TABLE policy_term, policy");
 
-    Random random = new Random(RANDOM_SEED);
-    int policyCount = 400 + random.nextInt(101);
-    LocalDate anchorDate = LocalDate.of(2024, 1, 1);
-
-    List<Policy> policies = new ArrayList<>(policyCount);
-    List<PolicyTerm> terms = new ArrayList<>();
-
-    for (int i = 0; i < policyCount; i++) {
-      String policyNumber = String.format("OH-%06d", i + 1);
-      String insuredName = buildInsuredName(random);
-      Instant createdAt =
-          anchorDate
-              .minusDays(random.nextInt(365))
-              .atStartOfDay()
-              .toInstant(ZoneOffset.UTC);
-      Instant updatedAt = createdAt.plusSeconds(86_400L * random.nextInt(30));
-
-      Policy policy =
-          new Policy(
-              uuidFor("policy-" + policyNumber),
-              policyNumber,
-              insuredName,
-              createdAt,
-              updatedAt);
-      policies.add(policy);
-
-      int termCount = 1 + random.nextInt(3);
-      LocalDate termStart = anchorDate.minusMonths(random.nextInt(24));
-
-      for (int termNumber = 1; termNumber <= termCount; termNumber++) {
-        LocalDate effectiveFrom = termStart.plusMonths((long) (termNumber - 1) * 12);
-        LocalDate effectiveTo = effectiveFrom.plusYears(1).minusDays(1);
-        LocalDate nextDueDate = effectiveFrom.plusMonths(1 + random.nextInt(3));
-        LocalDate lastPaymentDate =
-            nextDueDate.minusDays(5 + random.nextInt(20));
-
-        String status = STATUSES[random.nextInt(STATUSES.length)];
-        BigDecimal balanceDue =
-            BigDecimal.valueOf(50 + random.nextDouble() * 1450)
-                .setScale(2, RoundingMode.HALF_UP);
-
-        PolicyTerm term =
-            new PolicyTerm(
-                uuidFor(policyNumber + "-term-" + termNumber),
-                policy,
-                termNumber,
-                STATES[random.nextInt(STATES.length)],
-                status,
-                effectiveFrom,
-                effectiveTo,
-                balanceDue,
-                nextDueDate,
-                lastPaymentDate,
-                createdAt,
-                updatedAt);
-        terms.add(term);
+    int policyCount =
+        properties.policyCount() > 0
+            ? properties.policyCount()
+            : 400 + new SplittableRandom(RANDOM_SEED).nextInt(101);
+    int chunkSize = Math.max(1, properties.chunkSize());
+    long startedAt = System.nanoTime();
+
+    // Chunks are generated and copied independently; each policy draws from its own
+    // index-derived random stream, so output is identical regardless of parallelism.
+    ExecutorService executor = Executors.newFixedThreadPool(properties.effectiveParallelism());
+    long termCount = 0;
+    try {
+      List<Future<Integer>> chunks = new ArrayList<>();
+      for (int from = 0; from < policyCount; from += chunkSize) {
+        int start = from;
+        int end = Math.min(policyCount, from + chunkSize);
+        chunks.add(executor.submit(() -> copyChunk(start, end)));
+      }
+      for (Future<Integer> chunk : chunks) {
+        termCount += chunk.get();
       }
+    } catch (ExecutionException ex) {
+      throw ex.getCause() instanceof Exception cause ? cause : ex;
+    } finally {
+      executor.shutdownNow();
     }
 
-    policyRepository.saveAll(policies);
-    policyTermRepository.saveAll(terms);
-
     logger.info(
-        "Seeded {} policies and {} policy terms (deterministic seed).",
-        policies.size(),
-        terms.size());
+        "Seeded {} policies and {} policy terms in {} ms (deterministic seed).",
+        policyCount,
+        termCount,
+        (System.nanoTime() - startedAt) / 1_000_000);
+  }
+
+  private int copyChunk(int from, int to) throws IOException, SQLException {
+    ByteArrayOutputStream policyBytes = new ByteArrayOutputStream();
+    ByteArrayOutputStream termBytes = new ByteArrayOutputStream();
+    int termCount = 0;
+    try (Writer policies = new OutputStreamWriter(policyBytes, StandardCharsets.UTF_8);
+        Writer terms = new OutputStreamWriter(termBytes, StandardCharsets.UTF_8)) {
+      for (int i = from; i < to; i++) {
+        termCount += writePolicy(i, policies, terms);
+      }
+    }
+
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try {
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        copyManager.copyIn(COPY_POLICY, new ByteArrayInputStream(policyBytes.toByteArray()));
+        copyManager.copyIn(COPY_POLICY_TERM, new ByteArrayInputStream(termBytes.toByteArray()));
+        connection.commit();
+      } catch (SQLException | IOException ex) {
+        connection.rollback();
+        throw ex;
+      } finally {
+        connection.setAutoCommit(true);
+      }
+    }
+    return termCount;
+  }
+
+  private int writePolicy(int index, Writer policies, Writer terms) throws IOException {
+    SplittableRandom random = new SplittableRandom(RANDOM_SEED * 0x9E3779B97F4A7C15L + index);
+    String policyNumber = String.format("OH-%06d", index + 1);
+    String insuredName = buildInsuredName(random);
+    Instant createdAt =
+        ANCHOR_DATE.minusDays(random.nextInt(365)).atStartOfDay().toInstant(ZoneOffset.UTC);
+    Instant updatedAt = createdAt.plusSeconds(86_400L * random.nextInt(30));
+    UUID policyId = uuidFor("policy-" + policyNumber);
+
+    writeRow(policies, policyId, policyNumber, insuredName, createdAt, updatedAt);
+
+    int termCount = 1 + random.nextInt(3);
+    LocalDate termStart = ANCHOR_DATE.minusMonths(random.nextInt(24));
+
+    for (int termNumber = 1; termNumber <= termCount; termNumber++) {
+      LocalDate effectiveFrom = termStart.plusMonths((long) (termNumber - 1) * 12);
+      LocalDate effectiveTo = effectiveFrom.plusYears(1).minusDays(1);
+      LocalDate nextDueDate = effectiveFrom.plusMonths(1 + random.nextInt(3));
+      LocalDate lastPaymentDate = nextDueDate.minusDays(5 + random.nextInt(20));
+
+      String status = STATUSES[random.nextInt(STATUSES.length)];
+      BigDecimal balanceDue =
+          BigDecimal.valueOf(50 + random.nextDouble() * 1450).setScale(2, RoundingMode.HALF_UP);
+
+      writeRow(
+          terms,
+          uuidFor(policyNumber + "-term-" + termNumber),
+          policyId,
+          termNumber,
+          STATES[random.nextInt(STATES.length)],
+          status,
+          effectiveFrom,
+          effectiveTo,
+          balanceDue.toPlainString(),
+          nextDueDate,
+          lastPaymentDate,
+          createdAt,
+          updatedAt);
+    }
+    return termCount;
+  }
+
+  private static void writeRow(Writer writer, Object... values) throws IOException {
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      String value = String.valueOf(values[i]);
+      if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0) {
+        writer.write('"' + value.replace("\"", "\"\"") + '"');
+      } else {
+        writer.write(value);
+      }
+    }
+    writer.write('\n');
   }
 
-  private String buildInsuredName(Random random) {
+  private String buildInsuredName(SplittableRandom random) {
     String base = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
         + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
     if (random.nextBoolean()) {
@@ -0,0 +1,15 @@
+package com.oasishorizon.api.seed;
+
+import java.util.Locale;
+
+public enum PolicySeedStatus {
+  DISABLED,
+  PENDING,
+  RUNNING,
+  DONE,
+  FAILED;
+
+  public String getValue() {
+    return name().toLowerCase(Locale.US);
+  }
+}
@@ -0,0 +1,20 @@
+-- Text sorts and keyset cursors compare in code point order (ucs_basic) so the in-memory index
+-- orders rows and places cursor boundaries exactly as SQL does; linguistic collations such as
+-- en_US cannot be reproduced in Java. Keyword matching keeps the default collation, whose lower()
+-- folds non-ASCII letters.
+DROP INDEX idx_policy_term_search_policy_number;
+CREATE INDEX idx_policy_term_search_policy_number
+  ON policy_term_search (policy_number COLLATE ucs_basic, term_id)
+  INCLUDE (insured_name, term_number, state, status, effective_from_date, effective_to_date,
+           balance_due, next_due_date, last_payment_date);
+DROP INDEX idx_policy_term_search_insured_name;
+CREATE INDEX idx_policy_term_search_insured_name
+  ON policy_term_search (insured_name COLLATE ucs_basic, term_id)
+  INCLUDE (policy_number, term_number, state, status, effective_from_date, effective_to_date,
+           balance_due, next_due_date, last_payment_date);
+
+-- State and status are upper-case codes (V3), so the column collation can change outright; their
+-- indexes are rebuilt with it and keep serving both the filters and the sorts.
+ALTER TABLE policy_term_search
+  ALTER COLUMN state TYPE VARCHAR(10) COLLATE ucs_basic,
+  ALTER COLUMN status TYPE VARCHAR(30) COLLATE ucs_basic;
@@ -0,0 +1,6 @@
+-- The termNumber grid sort was the only one without an index, so it sorted the filtered rows
+-- instead of walking an index. Same shape as the other sort indexes, with the id tiebreaker.
+CREATE INDEX idx_policy_term_search_term_number
+  ON policy_term_search (term_number, term_id)
+  INCLUDE (policy_number, insured_name, state, status, effective_from_date, effective_to_date,
+           balance_due, next_due_date, last_payment_date);
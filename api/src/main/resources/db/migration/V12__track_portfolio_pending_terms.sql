@@ -0,0 +1,43 @@
+-- Inserts and deletes don't always move the policy_term.updated_at watermark (a deleted row has
+-- no timestamp; imports may carry old ones), so the portfolio refresher also reads the term ids
+-- recorded here and consumes them. There is no key: appends never wait on a running refresh.
+-- A truncate records the nil id, which tells the refresher to rebuild.
+CREATE TABLE portfolio_pending_term (
+  term_id UUID NOT NULL
+);
+
+CREATE FUNCTION portfolio_record_inserted_terms() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+  INSERT INTO portfolio_pending_term (term_id) SELECT id FROM inserted_terms;
+  RETURN NULL;
+END;
+$$;
+
+CREATE FUNCTION portfolio_record_removed_terms() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+  INSERT INTO portfolio_pending_term (term_id) SELECT id FROM removed_terms;
+  RETURN NULL;
+END;
+$$;
+
+CREATE FUNCTION portfolio_record_truncate() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+  INSERT INTO portfolio_pending_term (term_id) VALUES ('00000000-0000-0000-0000-000000000000');
+  RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_portfolio_pending_insert
+  AFTER INSERT ON policy_term
+  REFERENCING NEW TABLE AS inserted_terms
+  FOR EACH STATEMENT EXECUTE FUNCTION portfolio_record_inserted_terms();
+CREATE TRIGGER trg_portfolio_pending_delete
+  AFTER DELETE ON policy_term
+  REFERENCING OLD TABLE AS removed_terms
+  FOR EACH STATEMENT EXECUTE FUNCTION portfolio_record_removed_terms();
+CREATE TRIGGER trg_portfolio_pending_truncate
+  AFTER TRUNCATE ON policy_term
+  FOR EACH STATEMENT EXECUTE FUNCTION portfolio_record_truncate();
@@ -0,0 +1,59 @@
+-- V8's statement trigger fires only for statements that name the parent, so an UPDATE or DELETE
+-- against a partition went through. Row triggers on a partitioned table are cloned to every
+-- current and future partition. TRUNCATE triggers are not cloned, so each partition gets its own.
+-- Retention still drops or detaches whole partitions.
+DROP TRIGGER trg_copilot_audit_log_append_only ON copilot_audit_log;
+
+CREATE TRIGGER trg_copilot_audit_log_append_only
+  BEFORE UPDATE OR DELETE ON copilot_audit_log
+  FOR EACH ROW EXECUTE FUNCTION copilot_audit_log_reject_change();
+CREATE TRIGGER trg_copilot_audit_log_no_truncate
+  BEFORE TRUNCATE ON copilot_audit_log
+  FOR EACH STATEMENT EXECUTE FUNCTION copilot_audit_log_reject_change();
+
+DO $$
+DECLARE
+  partition_name TEXT;
+BEGIN
+  FOR partition_name IN
+    SELECT inhrelid::regclass::text FROM pg_inherits
+    WHERE inhparent = 'copilot_audit_log'::regclass
+  LOOP
+    EXECUTE format(
+      'CREATE TRIGGER trg_copilot_audit_log_no_truncate BEFORE TRUNCATE ON %s '
+        || 'FOR EACH STATEMENT EXECUTE FUNCTION copilot_audit_log_reject_change()',
+      partition_name);
+  END LOOP;
+END;
+$$;
+
+-- As in V8, plus the TRUNCATE trigger on each partition it creates.
+CREATE OR REPLACE FUNCTION copilot_audit_log_ensure_partitions(first_day DATE, days INTEGER)
+RETURNS INTEGER
+LANGUAGE plpgsql AS $$
+DECLARE
+  day DATE;
+  day_start TIMESTAMPTZ;
+  created INTEGER := 0;
+BEGIN
+  FOR offset_days IN 0..days - 1 LOOP
+    day := first_day + offset_days;
+    day_start := day::timestamp AT TIME ZONE 'UTC';
+    CONTINUE WHEN to_regclass('copilot_audit_log_p' || to_char(day, 'YYYYMMDD')) IS NOT NULL;
+    CONTINUE WHEN EXISTS (
+      SELECT 1 FROM copilot_audit_log_default
+      WHERE occurred_at >= day_start AND occurred_at < day_start + INTERVAL '1 day');
+    EXECUTE format(
+      'CREATE TABLE %I PARTITION OF copilot_audit_log FOR VALUES FROM (%L) TO (%L)',
+      'copilot_audit_log_p' || to_char(day, 'YYYYMMDD'),
+      day_start,
+      day_start + INTERVAL '1 day');
+    EXECUTE format(
+      'CREATE TRIGGER trg_copilot_audit_log_no_truncate BEFORE TRUNCATE ON %I '
+        || 'FOR EACH STATEMENT EXECUTE FUNCTION copilot_audit_log_reject_change()',
+      'copilot_audit_log_p' || to_char(day, 'YYYYMMDD'));
+    created := created + 1;
+  END LOOP;
+  RETURN created;
+END;
+$$;
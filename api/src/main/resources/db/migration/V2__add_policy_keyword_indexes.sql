@@ -0,0 +1,5 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_policy_policy_number_trgm ON policy USING gin (lower(policy_number) gin_trgm_ops);
+CREATE INDEX idx_policy_insured_name_trgm ON policy USING gin (lower(insured_name) gin_trgm_ops);
+CREATE INDEX idx_policy_policy_number_prefix ON policy (lower(policy_number) text_pattern_ops);
@@ -0,0 +1,13 @@
+UPDATE policy_term
+SET state = upper(trim(state)),
+    status = upper(trim(status))
+WHERE state <> upper(trim(state))
+   OR status <> upper(trim(status));
+
+ALTER TABLE policy_term
+  ADD CONSTRAINT chk_policy_term_state_normalized CHECK (state = upper(trim(state))),
+  ADD CONSTRAINT chk_policy_term_status_normalized CHECK (status = upper(trim(status)));
+
+DROP INDEX idx_policy_term_status;
+CREATE INDEX idx_policy_term_status_state_effective_to_date
+  ON policy_term (status, state, effective_to_date);
@@ -0,0 +1,148 @@
+CREATE TABLE policy_term_search (
+  term_id UUID PRIMARY KEY,
+  policy_id UUID NOT NULL,
+  policy_number VARCHAR(64) NOT NULL,
+  insured_name VARCHAR(255) NOT NULL,
+  term_number INTEGER NOT NULL,
+  state VARCHAR(10) NOT NULL,
+  status VARCHAR(30) NOT NULL,
+  effective_from_date DATE NOT NULL,
+  effective_to_date DATE NOT NULL,
+  balance_due NUMERIC(12, 2) NOT NULL,
+  next_due_date DATE,
+  last_payment_date DATE,
+  updated_at TIMESTAMPTZ NOT NULL
+);
+
+-- Frequent vacuums keep the visibility map current so the covering indexes stay index-only.
+ALTER TABLE policy_term_search SET (
+  autovacuum_vacuum_scale_factor = 0.02,
+  autovacuum_analyze_scale_factor = 0.02
+);
+
+INSERT INTO policy_term_search (
+  term_id, policy_id, policy_number, insured_name, term_number, state, status,
+  effective_from_date, effective_to_date, balance_due, next_due_date, last_payment_date, updated_at)
+SELECT t.id, t.policy_id, p.policy_number, p.insured_name, t.term_number, t.state, t.status,
+       t.effective_from_date, t.effective_to_date, t.balance_due, t.next_due_date,
+       t.last_payment_date, greatest(t.updated_at, p.updated_at)
+FROM policy_term t
+JOIN policy p ON p.id = t.policy_id;
+
+-- One covering index per grid sort; the id tiebreaker matches the keyset cursor ordering.
+CREATE INDEX idx_policy_term_search_effective_to_date
+  ON policy_term_search (effective_to_date, term_id)
+  INCLUDE (policy_number, insured_name, term_number, state, status, effective_from_date,
+           balance_due, next_due_date, last_payment_date);
+CREATE INDEX idx_policy_term_search_effective_from_date
+  ON policy_term_search (effective_from_date, term_id)
+  INCLUDE (policy_number, insured_name, term_number, state, status, effective_to_date,
+           balance_due, next_due_date, last_payment_date);
+CREATE INDEX idx_policy_term_search_policy_number
+  ON policy_term_search (policy_number, term_id)
+  INCLUDE (insured_name, term_number, state, status, effective_from_date, effective_to_date,
+           balance_due, next_due_date, last_payment_date);
+CREATE INDEX idx_policy_term_search_insured_name
+  ON policy_term_search (insured_name, term_id)
+  INCLUDE (policy_number, term_number, state, status, effective_from_date, effective_to_date,
+           balance_due, next_due_date, last_payment_date);
+CREATE INDEX idx_policy_term_search_state
+  ON policy_term_search (state, term_id)
+  INCLUDE (policy_number, insured_name, term_number, status, effective_from_date,
+           effective_to_date, balance_due, next_due_date, last_payment_date);
+CREATE INDEX idx_policy_term_search_status
+  ON policy_term_search (status, term_id)
+  INCLUDE (policy_number, insured_name, term_number, state, effective_from_date,
+           effective_to_date, balance_due, next_due_date, last_payment_date);
+
+CREATE INDEX idx_policy_term_search_status_state_effective_to_date
+  ON policy_term_search (status, state, effective_to_date);
+CREATE INDEX idx_policy_term_search_updated_at ON policy_term_search (updated_at);
+CREATE INDEX idx_policy_term_search_policy_id ON policy_term_search (policy_id);
+CREATE INDEX idx_policy_term_search_policy_number_trgm
+  ON policy_term_search USING gin (lower(policy_number) gin_trgm_ops);
+CREATE INDEX idx_policy_term_search_insured_name_trgm
+  ON policy_term_search USING gin (lower(insured_name) gin_trgm_ops);
+CREATE INDEX idx_policy_term_search_policy_number_prefix
+  ON policy_term_search (lower(policy_number) text_pattern_ops);
+
+-- Statement-level triggers with transition tables keep bulk COPY loads to one pass per statement.
+CREATE FUNCTION policy_term_search_upsert_terms() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+  INSERT INTO policy_term_search (
+    term_id, policy_id, policy_number, insured_name, term_number, state, status,
+    effective_from_date, effective_to_date, balance_due, next_due_date, last_payment_date,
+    updated_at)
+  SELECT t.id, t.policy_id, p.policy_number, p.insured_name, t.term_number, t.state, t.status,
+         t.effective_from_date, t.effective_to_date, t.balance_due, t.next_due_date,
+         t.last_payment_date, greatest(t.updated_at, p.updated_at)
+  FROM changed_terms t
+  JOIN policy p ON p.id = t.policy_id
+  ON CONFLICT (term_id) DO UPDATE SET
+    policy_id = EXCLUDED.policy_id,
+    policy_number = EXCLUDED.policy_number,
+    insured_name = EXCLUDED.insured_name,
+    term_number = EXCLUDED.term_number,
+    state = EXCLUDED.state,
+    status = EXCLUDED.status,
+    effective_from_date = EXCLUDED.effective_from_date,
+    effective_to_date = EXCLUDED.effective_to_date,
+    balance_due = EXCLUDED.balance_due,
+    next_due_date = EXCLUDED.next_due_date,
+    last_payment_date = EXCLUDED.last_payment_date,
+    updated_at = EXCLUDED.updated_at;
+  RETURN NULL;
+END;
+$$;
+
+CREATE FUNCTION policy_term_search_delete_terms() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+  DELETE FROM policy_term_search s
+  USING removed_terms r
+  WHERE s.term_id = r.id;
+  RETURN NULL;
+END;
+$$;
+
+CREATE FUNCTION policy_term_search_truncate_terms() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+  TRUNCATE TABLE policy_term_search;
+  RETURN NULL;
+END;
+$$;
+
+CREATE FUNCTION policy_term_search_update_policies() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+  UPDATE policy_term_search s
+  SET policy_number = p.policy_number,
+      insured_name = p.insured_name,
+      updated_at = greatest(s.updated_at, p.updated_at)
+  FROM changed_policies p
+  WHERE s.policy_id = p.id;
+  RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_policy_term_search_insert
+  AFTER INSERT ON policy_term
+  REFERENCING NEW TABLE AS changed_terms
+  FOR EACH STATEMENT EXECUTE FUNCTION policy_term_search_upsert_terms();
+CREATE TRIGGER trg_policy_term_search_update
+  AFTER UPDATE ON policy_term
+  REFERENCING NEW TABLE AS changed_terms
+  FOR EACH STATEMENT EXECUTE FUNCTION policy_term_search_upsert_terms();
+CREATE TRIGGER trg_policy_term_search_delete
+  AFTER DELETE ON policy_term
+  REFERENCING OLD TABLE AS removed_terms
+  FOR EACH STATEMENT EXECUTE FUNCTION policy_term_search_delete_terms();
+CREATE TRIGGER trg_policy_term_search_truncate
+  AFTER TRUNCATE ON policy_term
+  FOR EACH STATEMENT EXECUTE FUNCTION policy_term_search_truncate_terms();
+CREATE TRIGGER trg_policy_term_search_policy_update
+  AFTER UPDATE ON policy
+  REFERENCING NEW TABLE AS changed_policies
+  FOR EACH STATEMENT EXECUTE FUNCTION policy_term_search_update_policies();
@@ -0,0 +1,28 @@
+-- Terms without a next due date are stored under 'infinity' so the aggregate key stays NOT NULL.
+CREATE TABLE portfolio_billing_contribution (
+  term_id UUID PRIMARY KEY,
+  state VARCHAR(10) NOT NULL,
+  status VARCHAR(30) NOT NULL,
+  next_due_date DATE NOT NULL,
+  overdue BOOLEAN NOT NULL,
+  balance_cents BIGINT NOT NULL
+);
+
+CREATE TABLE portfolio_billing_aggregate (
+  state VARCHAR(10) NOT NULL,
+  status VARCHAR(30) NOT NULL,
+  next_due_date DATE NOT NULL,
+  overdue BOOLEAN NOT NULL,
+  term_count BIGINT NOT NULL,
+  balance_cents BIGINT NOT NULL,
+  PRIMARY KEY (state, status, next_due_date, overdue)
+);
+
+CREATE TABLE portfolio_refresh_state (
+  id SMALLINT PRIMARY KEY CHECK (id = 1),
+  watermark TIMESTAMPTZ NOT NULL
+);
+
+INSERT INTO portfolio_refresh_state (id, watermark) VALUES (1, '1970-01-01T00:00:00Z');
+
+CREATE INDEX idx_policy_term_updated_at ON policy_term (updated_at);
@@ -0,0 +1,4 @@
+-- Keyset index for the change feed: (updated_at, term_id) matches its ordering and resume token.
+DROP INDEX idx_policy_term_search_updated_at;
+CREATE INDEX idx_policy_term_search_updated_at_term_id
+  ON policy_term_search (updated_at, term_id);
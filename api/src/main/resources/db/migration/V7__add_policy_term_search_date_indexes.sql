@@ -0,0 +1,6 @@
+-- date_field=next_due|last_payment range filters; effective/expiration are served by the
+-- (effective_from_date, term_id) and (effective_to_date, term_id) covering indexes.
+CREATE INDEX idx_policy_term_search_next_due_date
+  ON policy_term_search (next_due_date) WHERE next_due_date IS NOT NULL;
+CREATE INDEX idx_policy_term_search_last_payment_date
+  ON policy_term_search (last_payment_date) WHERE last_payment_date IS NOT NULL;
@@ -0,0 +1,58 @@
+-- Append-only audit of AI copilot prompts and responses, range-partitioned by UTC day so old days
+-- can be detached or dropped without bloating one large table.
+CREATE TABLE copilot_audit_log (
+  id UUID NOT NULL,
+  occurred_at TIMESTAMPTZ NOT NULL,
+  kind VARCHAR(30) NOT NULL,
+  prompt TEXT NOT NULL,
+  response TEXT NOT NULL,
+  policy_term_id UUID,
+  PRIMARY KEY (id, occurred_at)
+) PARTITION BY RANGE (occurred_at);
+
+-- Catches rows for days whose partition was not created in time.
+CREATE TABLE copilot_audit_log_default PARTITION OF copilot_audit_log DEFAULT;
+
+CREATE INDEX idx_copilot_audit_log_policy_term_id
+  ON copilot_audit_log (policy_term_id) WHERE policy_term_id IS NOT NULL;
+
+CREATE FUNCTION copilot_audit_log_reject_change() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+  RAISE EXCEPTION 'copilot_audit_log is append-only';
+END;
+$$;
+
+CREATE TRIGGER trg_copilot_audit_log_append_only
+  BEFORE UPDATE OR DELETE ON copilot_audit_log
+  FOR EACH STATEMENT EXECUTE FUNCTION copilot_audit_log_reject_change();
+
+-- Creates the partitions for [first_day, first_day + days). A day that already has rows in the
+-- default partition is skipped, since attaching it would fail; those rows stay queryable there.
+CREATE FUNCTION copilot_audit_log_ensure_partitions(first_day DATE, days INTEGER)
+RETURNS INTEGER
+LANGUAGE plpgsql AS $$
+DECLARE
+  day DATE;
+  day_start TIMESTAMPTZ;
+  created INTEGER := 0;
+BEGIN
+  FOR offset_days IN 0..days - 1 LOOP
+    day := first_day + offset_days;
+    day_start := day::timestamp AT TIME ZONE 'UTC';
+    CONTINUE WHEN to_regclass('copilot_audit_log_p' || to_char(day, 'YYYYMMDD')) IS NOT NULL;
+    CONTINUE WHEN EXISTS (
+      SELECT 1 FROM copilot_audit_log_default
+      WHERE occurred_at >= day_start AND occurred_at < day_start + INTERVAL '1 day');
+    EXECUTE format(
+      'CREATE TABLE %I PARTITION OF copilot_audit_log FOR VALUES FROM (%L) TO (%L)',
+      'copilot_audit_log_p' || to_char(day, 'YYYYMMDD'),
+      day_start,
+      day_start + INTERVAL '1 day');
+    created := created + 1;
+  END LOOP;
+  RETURN created;
+END;
+$$;
+
+SELECT copilot_audit_log_ensure_partitions((now() AT TIME ZONE 'UTC')::date, 8);
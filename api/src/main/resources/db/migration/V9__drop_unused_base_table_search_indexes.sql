@@ -0,0 +1,9 @@
+-- Search, facets, counts and export read policy_term_search (V4), so the keyword and filter
+-- indexes on the base tables no longer serve any query but still cost every write. Kept:
+-- the unique policy_number and (policy_id, term_number) indexes and the policy_id join index.
+DROP INDEX idx_policy_policy_number_trgm;
+DROP INDEX idx_policy_insured_name_trgm;
+DROP INDEX idx_policy_policy_number_prefix;
+DROP INDEX idx_policy_term_effective_to_date;
+DROP INDEX idx_policy_term_state;
+DROP INDEX idx_policy_term_status_state_effective_to_date;
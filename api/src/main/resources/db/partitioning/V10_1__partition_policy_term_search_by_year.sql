@@ -0,0 +1,85 @@
+-- Optional: enabled by adding classpath:db/partitioning to spring.flyway.locations.
+-- Range-partitions the search read model by effective_to_date year so date-bounded searches
+-- prune partitions. The partition key must be part of the primary key, and rows move
+-- partitions when their expiration changes, so the term upsert becomes delete + insert.
+-- Columns (with their collations) and secondary indexes are copied from the table as it stands,
+-- so the script rebuilds the current schema even when it is applied out of order.
+
+ALTER TABLE policy_term_search RENAME TO policy_term_search_unpartitioned;
+ALTER TABLE policy_term_search_unpartitioned
+  RENAME CONSTRAINT policy_term_search_pkey TO policy_term_search_unpartitioned_pkey;
+
+CREATE TABLE policy_term_search (
+  LIKE policy_term_search_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS,
+  PRIMARY KEY (term_id, effective_to_date)
+) PARTITION BY RANGE (effective_to_date);
+
+CREATE TEMPORARY TABLE policy_term_search_index_definitions ON COMMIT DROP AS
+SELECT replace(pg_get_indexdef(i.indexrelid), 'policy_term_search_unpartitioned USING ',
+               'policy_term_search USING ') AS definition
+FROM pg_index i
+WHERE i.indrelid = 'policy_term_search_unpartitioned'::regclass
+  AND NOT i.indisprimary;
+
+DO $$
+DECLARE
+  first_year INTEGER;
+  last_year INTEGER;
+  year INTEGER;
+BEGIN
+  SELECT least(coalesce(min(extract(YEAR FROM effective_to_date))::int, 9999),
+              extract(YEAR FROM current_date)::int - 5),
+         greatest(coalesce(max(extract(YEAR FROM effective_to_date))::int, 0),
+                  extract(YEAR FROM current_date)::int + 10)
+  INTO first_year, last_year
+  FROM policy_term_search_unpartitioned;
+
+  FOR year IN first_year..last_year LOOP
+    EXECUTE format(
+      'CREATE TABLE policy_term_search_y%s PARTITION OF policy_term_search '
+        || 'FOR VALUES FROM (%L) TO (%L)',
+      year, make_date(year, 1, 1), make_date(year + 1, 1, 1));
+    EXECUTE format(
+      'ALTER TABLE policy_term_search_y%s SET (autovacuum_vacuum_scale_factor = 0.02, '
+        || 'autovacuum_analyze_scale_factor = 0.02)',
+      year);
+  END LOOP;
+END;
+$$;
+
+CREATE TABLE policy_term_search_default PARTITION OF policy_term_search DEFAULT;
+
+INSERT INTO policy_term_search SELECT * FROM policy_term_search_unpartitioned;
+DROP TABLE policy_term_search_unpartitioned;
+
+DO $$
+DECLARE
+  definition TEXT;
+BEGIN
+  FOR definition IN SELECT d.definition FROM policy_term_search_index_definitions d LOOP
+    EXECUTE definition;
+  END LOOP;
+END;
+$$;
+-- Lookups by term_id alone no longer have the primary key to themselves.
+CREATE INDEX idx_policy_term_search_term_id ON policy_term_search (term_id);
+
+CREATE OR REPLACE FUNCTION policy_term_search_upsert_terms() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+  DELETE FROM policy_term_search s
+  USING changed_terms t
+  WHERE s.term_id = t.id;
+
+  INSERT INTO policy_term_search (
+    term_id, policy_id, policy_number, insured_name, term_number, state, status,
+    effective_from_date, effective_to_date, balance_due, next_due_date, last_payment_date,
+    updated_at)
+  SELECT t.id, t.policy_id, p.policy_number, p.insured_name, t.term_number, t.state, t.status,
+         t.effective_from_date, t.effective_to_date, t.balance_due, t.next_due_date,
+         t.last_payment_date, greatest(t.updated_at, p.updated_at)
+  FROM changed_terms t
+  JOIN policy p ON p.id = t.policy_id;
+  RETURN NULL;
+END;
+$$;
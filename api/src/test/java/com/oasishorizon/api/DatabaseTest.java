@@ -0,0 +1,61 @@
+package com.oasishorizon.api;
+
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+// Boots the application against one embedded Postgres per JVM; Flyway migrates it when the first
+// context starts. The database uses a linguistic (ICU en-US) default collation like a typical
+// deployment, so ordering differences between SQL and Java show up in tests.
+@SpringBootTest(
+    properties = {
+      "spring.jpa.hibernate.ddl-auto=validate",
+      "spring.jpa.properties.hibernate.jdbc.time_zone=UTC"
+    })
+public abstract class DatabaseTest {
+  private static final String DATABASE = "oasis_test";
+
+  private static EmbeddedPostgres postgres;
+
+  @BeforeAll
+  static void requireNonRootUser() {
+    assumeFalse(
+        "root".equals(System.getProperty("user.name")),
+        "initdb and postgres refuse to run as root");
+  }
+
+  @DynamicPropertySource
+  static void database(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", DatabaseTest::jdbcUrl);
+    registry.add("spring.datasource.username", () -> "postgres");
+    registry.add("spring.datasource.password", () -> "");
+  }
+
+  private static synchronized String jdbcUrl() {
+    if (postgres == null) {
+      try {
+        postgres = EmbeddedPostgres.builder().start();
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+            Statement statement = connection.createStatement()) {
+          statement.execute(
+              "CREATE DATABASE " + DATABASE + " TEMPLATE template0 ENCODING 'UTF8' "
+                  + "LOCALE_PROVIDER icu ICU_LOCALE 'en-US' LOCALE 'C.UTF-8'");
+        }
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      } catch (SQLException ex) {
+        throw new IllegalStateException("Could not create the test database", ex);
+      }
+    }
+    return postgres.getJdbcUrl("postgres", DATABASE);
+  }
+}
@@ -0,0 +1,168 @@
+package com.oasishorizon.api.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class AuditBatcherTest {
+  private final MeterRegistry registry = new SimpleMeterRegistry();
+
+  @Test
+  void countsDropsWhileTheRingIsFull() throws Exception {
+    CountDownLatch writing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Queue<Integer> written = new ConcurrentLinkedQueue<>();
+    AuditBatcher<Integer> batcher =
+        new AuditBatcher<>(
+            "test",
+            properties(4, 1, Duration.ofMinutes(1), Duration.ZERO),
+            batch -> {
+              writing.countDown();
+              awaitQuietly(release);
+              written.addAll(batch);
+            },
+            registry);
+    batcher.start();
+    assertThat(batcher.offer(0)).isTrue();
+    // The writer now holds the first record, so the next four fill the ring.
+    assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+    for (int value = 1; value <= 4; value++) {
+      assertThat(batcher.offer(value)).isTrue();
+    }
+
+    assertThat(batcher.offer(5)).isFalse();
+    assertThat(batcher.offer(6)).isFalse();
+
+    release.countDown();
+    batcher.stop(Duration.ofSeconds(10));
+    assertThat(count("dropped")).isEqualTo(2);
+    assertThat(count("accepted")).isEqualTo(5);
+    assertThat(count("written")).isEqualTo(5);
+    assertThat(written).containsExactly(0, 1, 2, 3, 4);
+  }
+
+  @Test
+  void stopWritesEveryAcceptedRecord() throws Exception {
+    int producers = 8;
+    Queue<Integer> written = new ConcurrentLinkedQueue<>();
+    AuditBatcher<Integer> batcher =
+        new AuditBatcher<>(
+            "test",
+            properties(256, 50, Duration.ofMillis(20), Duration.ofMillis(1)),
+            batch -> {
+              sleepQuietly(1);
+              written.addAll(batch);
+            },
+            registry);
+    batcher.start();
+    ExecutorService executor = Executors.newFixedThreadPool(producers);
+    try {
+      List<Future<List<Integer>>> acceptedByProducer = new ArrayList<>();
+      for (int producer = 0; producer < producers; producer++) {
+        int first = producer * 1_000_000;
+        acceptedByProducer.add(
+            executor.submit(
+                () -> {
+                  List<Integer> accepted = new ArrayList<>();
+                  // Keeps offering until stop turns offers away.
+                  for (int value = first; batcher.isRunning(); value++) {
+                    if (batcher.offer(value)) {
+                      accepted.add(value);
+                    }
+                  }
+                  return accepted;
+                }));
+      }
+      Thread.sleep(200);
+
+      batcher.stop(Duration.ofSeconds(10));
+
+      List<Integer> accepted = new ArrayList<>();
+      for (Future<List<Integer>> producer : acceptedByProducer) {
+        accepted.addAll(producer.get(5, TimeUnit.SECONDS));
+      }
+      assertThat(accepted).isNotEmpty();
+      assertThat(written).containsExactlyInAnyOrderElementsOf(accepted);
+      assertThat(count("written")).isEqualTo(accepted.size());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void retriesAFailedBatchUntilItIsWritten() throws Exception {
+    AtomicInteger attempts = new AtomicInteger();
+    Queue<Integer> written = new ConcurrentLinkedQueue<>();
+    AuditBatcher<Integer> batcher =
+        new AuditBatcher<>(
+            "test",
+            properties(4, 3, Duration.ofMinutes(1), Duration.ZERO),
+            batch -> {
+              if (attempts.incrementAndGet() <= 4) {
+                throw new IllegalStateException("database unavailable");
+              }
+              written.addAll(batch);
+            },
+            registry);
+    batcher.start();
+    for (int value = 0; value < 3; value++) {
+      assertThat(batcher.offer(value)).isTrue();
+    }
+
+    batcher.stop(Duration.ofSeconds(10));
+
+    assertThat(written).containsExactly(0, 1, 2);
+    assertThat(count("written")).isEqualTo(3);
+    assertThat(registry.get("oasis.audit.write.failures").counter().count()).isEqualTo(4);
+  }
+
+  private static AuditProperties properties(
+      int bufferCapacity, int batchSize, Duration flushInterval, Duration offerTimeout) {
+    return new AuditProperties(
+        bufferCapacity,
+        batchSize,
+        flushInterval,
+        offerTimeout,
+        Duration.ofSeconds(10),
+        Duration.ofMillis(200),
+        7);
+  }
+
+  private double count(String outcome) {
+    return registry
+        .get("oasis.audit.records")
+        .tag("log", "test")
+        .tag("outcome", outcome)
+        .counter()
+        .count();
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void sleepQuietly(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
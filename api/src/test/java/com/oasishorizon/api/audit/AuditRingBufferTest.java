@@ -0,0 +1,84 @@
+package com.oasishorizon.api.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AuditRingBufferTest {
+  private static final int PRODUCERS = 4;
+  private static final int PER_PRODUCER = 20_000;
+
+  @Test
+  void concurrentProducersLoseAndDuplicateNothing() throws Exception {
+    AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(64);
+    ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS);
+    CountDownLatch go = new CountDownLatch(1);
+    try {
+      List<Future<?>> producers = new ArrayList<>();
+      for (int producer = 0; producer < PRODUCERS; producer++) {
+        int first = producer * PER_PRODUCER;
+        producers.add(
+            executor.submit(
+                () -> {
+                  go.await();
+                  for (int value = first; value < first + PER_PRODUCER; value++) {
+                    while (!buffer.offer(value)) {
+                      Thread.yield();
+                    }
+                  }
+                  return null;
+                }));
+      }
+      go.countDown();
+
+      List<Integer> drained = new ArrayList<>(PRODUCERS * PER_PRODUCER);
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+      while (drained.size() < PRODUCERS * PER_PRODUCER && System.nanoTime() < deadline) {
+        if (buffer.drainTo(drained, 32) == 0) {
+          Thread.yield();
+        }
+      }
+      for (Future<?> producer : producers) {
+        producer.get(5, TimeUnit.SECONDS);
+      }
+
+      assertThat(drained).hasSize(PRODUCERS * PER_PRODUCER);
+      assertThat(new HashSet<>(drained)).hasSize(PRODUCERS * PER_PRODUCER);
+      assertThat(buffer.size()).isZero();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void rejectsOffersWhenFullUntilDrained() {
+    AuditRingBuffer<String> buffer = new AuditRingBuffer<>(4);
+    for (String item : List.of("a", "b", "c", "d")) {
+      assertThat(buffer.offer(item)).isTrue();
+    }
+
+    assertThat(buffer.offer("e")).isFalse();
+
+    List<String> sink = new ArrayList<>();
+    assertThat(buffer.drainTo(sink, 1)).isEqualTo(1);
+    assertThat(buffer.offer("e")).isTrue();
+    buffer.drainTo(sink, 10);
+    assertThat(sink).containsExactly("a", "b", "c", "d", "e");
+  }
+
+  @Test
+  void requiresPowerOfTwoCapacity() {
+    assertThatThrownBy(() -> new AuditRingBuffer<>(6))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(new AuditRingBuffer<>(2).capacity()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,60 @@
+package com.oasishorizon.api.audit;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.oasishorizon.api.DatabaseTest;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class CopilotAuditLogDatabaseTest extends DatabaseTest {
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private UUID id;
+  private String partition;
+
+  @BeforeEach
+  void insert() {
+    id = UUID.randomUUID();
+    jdbcTemplate.update(
+        "INSERT INTO copilot_audit_log (id, occurred_at, kind, prompt, response) "
+            + "VALUES (?, now(), 'nl_filters', 'prompt', 'response')",
+        id);
+    partition =
+        jdbcTemplate.queryForObject(
+            "SELECT tableoid::regclass::text FROM copilot_audit_log WHERE id = ?",
+            String.class,
+            id);
+  }
+
+  @Test
+  void rejectsChangesThroughTheParent() {
+    assertAppendOnly("UPDATE copilot_audit_log SET prompt = 'changed' WHERE id = '" + id + "'");
+    assertAppendOnly("DELETE FROM copilot_audit_log WHERE id = '" + id + "'");
+    assertAppendOnly("TRUNCATE TABLE copilot_audit_log");
+  }
+
+  @Test
+  void rejectsChangesAddressedToAPartition() {
+    assertAppendOnly("UPDATE " + partition + " SET prompt = 'changed' WHERE id = '" + id + "'");
+    assertAppendOnly("DELETE FROM " + partition + " WHERE id = '" + id + "'");
+    assertAppendOnly("TRUNCATE TABLE " + partition);
+    assertAppendOnly("TRUNCATE TABLE copilot_audit_log_default");
+  }
+
+  @Test
+  void rejectsTruncatingAPartitionCreatedLater() {
+    jdbcTemplate.queryForObject(
+        "SELECT copilot_audit_log_ensure_partitions(date '2099-01-01', 1)", Integer.class);
+    assertAppendOnly("TRUNCATE TABLE copilot_audit_log_p20990101");
+  }
+
+  private void assertAppendOnly(String sql) {
+    assertThatThrownBy(() -> jdbcTemplate.execute(sql))
+        .isInstanceOf(DataAccessException.class)
+        .hasMessageContaining("copilot_audit_log is append-only");
+  }
+}
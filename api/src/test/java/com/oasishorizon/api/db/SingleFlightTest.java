@@ -0,0 +1,158 @@
+package com.oasishorizon.api.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+  private static final int FOLLOWERS = 5;
+
+  private final MeterRegistry registry = new SimpleMeterRegistry();
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final CountDownLatch started = new CountDownLatch(1);
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @AfterEach
+  void shutDown() {
+    release.countDown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  void concurrentCallsShareOneExecution() throws Exception {
+    SingleFlight<String, Integer> singleFlight = singleFlight(Duration.ofSeconds(30));
+    AtomicInteger executions = new AtomicInteger();
+    Supplier<Integer> work =
+        () -> {
+          executions.incrementAndGet();
+          started.countDown();
+          await(release);
+          return 42;
+        };
+
+    Future<Integer> leader = executor.submit(() -> singleFlight.execute("count", work));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    List<Future<Integer>> followers = submitFollowers(singleFlight, "count", work);
+    awaitCount("collapsed", FOLLOWERS);
+    release.countDown();
+
+    assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+    for (Future<Integer> follower : followers) {
+      assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+    }
+    assertThat(executions).hasValue(1);
+    assertThat(count("executed")).isEqualTo(1);
+  }
+
+  @Test
+  void followersReceiveTheLeadersFailure() throws Exception {
+    SingleFlight<String, Integer> singleFlight = singleFlight(Duration.ofSeconds(30));
+    IllegalStateException failure = new IllegalStateException("database unavailable");
+    Supplier<Integer> work =
+        () -> {
+          started.countDown();
+          await(release);
+          throw failure;
+        };
+
+    Future<Integer> leader = executor.submit(() -> singleFlight.execute("count", work));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    List<Future<Integer>> followers = submitFollowers(singleFlight, "count", work);
+    awaitCount("collapsed", FOLLOWERS);
+    release.countDown();
+
+    assertThat(causeOf(leader)).isSameAs(failure);
+    for (Future<Integer> follower : followers) {
+      assertThat(causeOf(follower)).isSameAs(failure);
+    }
+    // The failed call is not remembered; the next caller runs again.
+    assertThat(singleFlight.execute("count", () -> 7)).isEqualTo(7);
+  }
+
+  @Test
+  void callersPastTheDeadlineRunTheirOwnWork() throws Exception {
+    SingleFlight<String, Integer> singleFlight = singleFlight(Duration.ofMillis(100));
+    Future<Integer> leader =
+        executor.submit(
+            () ->
+                singleFlight.execute(
+                    "count",
+                    () -> {
+                      started.countDown();
+                      await(release);
+                      return 1;
+                    }));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // Waits out the remaining deadline, then runs alone.
+    assertThat(singleFlight.execute("count", () -> 2)).isEqualTo(2);
+    // Arrives after the deadline and runs at once.
+    assertThat(singleFlight.execute("count", () -> 3)).isEqualTo(3);
+
+    release.countDown();
+    assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+    assertThat(count("timed_out")).isEqualTo(2);
+    assertThat(count("executed")).isEqualTo(3);
+  }
+
+  private SingleFlight<String, Integer> singleFlight(Duration timeout) {
+    return new SingleFlight<>("test", new DatabaseCoalescingProperties(true, timeout), registry);
+  }
+
+  private List<Future<Integer>> submitFollowers(
+      SingleFlight<String, Integer> singleFlight, String key, Supplier<Integer> work) {
+    List<Future<Integer>> followers = new ArrayList<>();
+    for (int i = 0; i < FOLLOWERS; i++) {
+      followers.add(executor.submit(() -> singleFlight.execute(key, work)));
+    }
+    return followers;
+  }
+
+  private void awaitCount(String outcome, int expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (count(outcome) < expected && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+    assertThat(count(outcome)).isEqualTo(expected);
+  }
+
+  private double count(String outcome) {
+    return registry
+        .get("oasis.db.coalescing.calls")
+        .tag("operation", "test")
+        .tag("outcome", outcome)
+        .counter()
+        .count();
+  }
+
+  private static Throwable causeOf(Future<?> future) throws Exception {
+    try {
+      future.get(5, TimeUnit.SECONDS);
+    } catch (ExecutionException ex) {
+      return ex.getCause();
+    }
+    throw new AssertionError("Expected the call to fail");
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
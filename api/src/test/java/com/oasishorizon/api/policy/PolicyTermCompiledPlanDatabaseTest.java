@@ -0,0 +1,127 @@
+package com.oasishorizon.api.policy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.oasishorizon.api.DatabaseTest;
+import com.oasishorizon.api.policy.dto.PolicyTermSummaryResponse;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+// With the page cache off, every call reaches the database, so search runs the Criteria query and
+// searchCompiled the cached plan for the same key.
+@TestPropertySource(properties = "oasis.cache.enabled=false")
+class PolicyTermCompiledPlanDatabaseTest extends DatabaseTest {
+  private static final int PAGE_SIZE = 25;
+  private static final List<String> SORT_PROPERTIES =
+      List.of(
+          "effectiveToDate",
+          "effectiveFromDate",
+          "policyNumber",
+          "insuredName",
+          "state",
+          "status",
+          "termNumber");
+  private static final List<PolicyTermFilter> FILTERS =
+      List.of(
+          PolicyTermFilter.of(null, null, null, null, null),
+          PolicyTermFilter.of(null, List.of("CA", "NY"), List.of("ACTIVE", "LAPSED"), null, null),
+          PolicyTermFilter.of("oh-0001", null, null, null, null),
+          PolicyTermFilter.of("smith", null, null, null, null),
+          PolicyTermFilter.of(
+              null, null, null, LocalDate.of(2024, 9, 1), LocalDate.of(2025, 9, 30)),
+          PolicyTermFilter.of(
+              null,
+              null,
+              List.of("ACTIVE"),
+              null,
+              null,
+              PolicyTermDateField.NEXT_DUE,
+              LocalDate.of(2024, 6, 1),
+              LocalDate.of(2025, 6, 1)));
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PolicyTermVersionTracker versionTracker;
+  @Autowired private PolicyTermService service;
+
+  @BeforeEach
+  void seed() {
+    PolicyTermFixtures.replaceAll(jdbcTemplate, 120);
+    versionTracker.refresh();
+  }
+
+  @Test
+  void offsetPagesMatchTheCriteriaQuery() {
+    for (PolicyTermFilter filter : FILTERS) {
+      for (Sort.Order order : orders()) {
+        int page = 0;
+        PolicyTermSearchResult criteria;
+        do {
+          PageRequest pageRequest = PageRequest.of(page, PAGE_SIZE, Sort.by(order));
+          criteria = service.search(filter, pageRequest, Optional.empty(), true);
+          PolicyTermSearchResult compiled =
+              service.searchCompiled(filter, pageRequest, Optional.empty(), true);
+          assertThat(compiled).as("%s %s page %d", filter, order, page).isEqualTo(criteria);
+          page++;
+        } while (criteria.hasNext());
+      }
+    }
+  }
+
+  @Test
+  void cursorPagesMatchTheCriteriaQuery() {
+    for (PolicyTermFilter filter : FILTERS) {
+      for (Sort.Order order : orders()) {
+        PageRequest pageRequest = PageRequest.of(0, PAGE_SIZE, Sort.by(order));
+        Optional<PolicyTermCursor> cursor = Optional.empty();
+        int pages = 0;
+        PolicyTermSearchResult criteria;
+        do {
+          criteria = service.search(filter, pageRequest, cursor, false);
+          PolicyTermSearchResult compiled =
+              service.searchCompiled(filter, pageRequest, cursor, false);
+          assertThat(compiled.items())
+              .as("%s %s after %s", filter, order, cursor)
+              .isEqualTo(criteria.items());
+          assertThat(compiled.hasNext()).isEqualTo(criteria.hasNext());
+          if (criteria.hasNext()) {
+            cursor = Optional.of(after(order, criteria.items().get(PAGE_SIZE - 1)));
+          }
+          pages++;
+        } while (criteria.hasNext());
+        if (filter == FILTERS.get(0)) {
+          assertThat(pages).as("%s pages", order).isGreaterThan(1);
+        }
+      }
+    }
+  }
+
+  private static List<Sort.Order> orders() {
+    return SORT_PROPERTIES.stream()
+        .flatMap(property -> Stream.of(Sort.Order.asc(property), Sort.Order.desc(property)))
+        .toList();
+  }
+
+  // The cursor the list endpoint hands out after this row.
+  private static PolicyTermCursor after(Sort.Order order, PolicyTermSummaryResponse last) {
+    Comparable<?> value =
+        switch (order.getProperty()) {
+          case "effectiveFromDate" -> last.effectiveFromDate();
+          case "policyNumber" -> last.policyNumber();
+          case "insuredName" -> last.insuredName();
+          case "state" -> last.state();
+          case "status" -> last.status();
+          case "termNumber" -> last.termNumber();
+          default -> last.effectiveToDate();
+        };
+    return new PolicyTermCursor(order.getProperty(), order.getDirection(), value, last.id());
+  }
+}
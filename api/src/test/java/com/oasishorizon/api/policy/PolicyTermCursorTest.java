@@ -0,0 +1,59 @@
+package com.oasishorizon.api.policy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+class PolicyTermCursorTest {
+  private static final UUID ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+  @Test
+  void roundTripsEachValueType() {
+    for (PolicyTermCursor cursor :
+        new PolicyTermCursor[] {
+          new PolicyTermCursor(
+              "effectiveToDate", Sort.Direction.ASC, LocalDate.of(2025, 1, 31), ID),
+          new PolicyTermCursor("termNumber", Sort.Direction.DESC, 3, ID),
+          new PolicyTermCursor("policyNumber", Sort.Direction.ASC, "OH-000001", ID)
+        }) {
+      assertThat(PolicyTermCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+  }
+
+  @Test
+  void rejectsValueOfTheWrongTypeForTheSortField() {
+    PolicyTermCursor cursor =
+        new PolicyTermCursor("effectiveToDate", Sort.Direction.ASC, "2025-01-31", ID);
+
+    PolicyTermCursor decoded = PolicyTermCursor.decode(cursor.encode());
+
+    assertThat(decoded.matches(Sort.Order.asc("effectiveToDate"))).isFalse();
+  }
+
+  @Test
+  void rejectsDifferentSort() {
+    PolicyTermCursor cursor = new PolicyTermCursor("termNumber", Sort.Direction.ASC, 2, ID);
+
+    assertThat(cursor.matches(Sort.Order.asc("termNumber"))).isTrue();
+    assertThat(cursor.matches(Sort.Order.desc("termNumber"))).isFalse();
+    assertThat(cursor.matches(Sort.Order.asc("policyNumber"))).isFalse();
+  }
+
+  @Test
+  void rejectsMalformedTokens() {
+    assertThatThrownBy(() -> PolicyTermCursor.decode("not a cursor"))
+        .isInstanceOf(IllegalArgumentException.class);
+    String unknownType =
+        Base64.getUrlEncoder()
+            .encodeToString(
+                ("termNumber\nASC\n" + ID + "\nx:2").getBytes(StandardCharsets.UTF_8));
+    assertThatThrownBy(() -> PolicyTermCursor.decode(unknownType))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,172 @@
+package com.oasishorizon.api.policy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oasishorizon.api.DatabaseTest;
+import com.oasishorizon.api.policy.dto.PolicyTermSummaryResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// Runs in its own surefire execution with a heap far smaller than a million rows, so an export
+// that buffers the result set fails with OutOfMemoryError instead of passing. The suggester keeps
+// every policy in memory by design, so it is replaced here.
+class PolicyTermExportDatabaseTest extends DatabaseTest {
+  private static final int POLICIES = 500_000;
+  private static final int TERMS_PER_POLICY = 2;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PolicyTermExporter exporter;
+  @Autowired private ObjectMapper objectMapper;
+  @MockBean private PolicyTermSuggester suggester;
+
+  @BeforeEach
+  void seed() {
+    jdbcTemplate.execute("TRUNCATE TABLE policy_term, policy");
+    jdbcTemplate.update(
+        "INSERT INTO policy (id, policy_number, insured_name, created_at, updated_at) "
+            + "SELECT gen_random_uuid(), 'EX-' || lpad(i::text, 7, '0'), "
+            + "'=Insured, \"' || i || '\"', now(), now() FROM generate_series(1, ?) i",
+        POLICIES);
+    jdbcTemplate.update(
+        "INSERT INTO policy_term (id, policy_id, term_number, state, status, "
+            + "effective_from_date, effective_to_date, balance_due, next_due_date, "
+            + "last_payment_date, created_at, updated_at) "
+            + "SELECT gen_random_uuid(), p.id, t, 'CA', 'ACTIVE', date '2024-01-01' + t * 365, "
+            + "date '2025-01-01' + t * 365, 125.50, NULL, NULL, now(), now() "
+            + "FROM policy p CROSS JOIN generate_series(1, ?) t",
+        TERMS_PER_POLICY);
+  }
+
+  @Test
+  void streamsAMillionRowsInASmallHeap() throws IOException {
+    for (PolicyTermExportFormat format : PolicyTermExportFormat.values()) {
+      LineCountingOutputStream output = new LineCountingOutputStream();
+
+      exporter.export(
+          PolicyTermFilter.of(null, null, null, null, null),
+          Sort.by("effectiveToDate"),
+          format,
+          output);
+
+      int header = format == PolicyTermExportFormat.CSV ? 1 : 0;
+      assertThat(output.lines)
+          .as("%s lines", format)
+          .isEqualTo(POLICIES * TERMS_PER_POLICY + header);
+      List<String> lines = output.firstLines();
+      if (format == PolicyTermExportFormat.CSV) {
+        assertThat(lines.get(0))
+            .isEqualTo(
+                "id,policy_number,insured_name,term_number,state,status,effective_from_date,"
+                    + "effective_to_date,balance_due,next_due_date,last_payment_date");
+        List<String> fields = decodeCsv(lines.get(1));
+        PolicyTermSummaryResponse expected = stored(UUID.fromString(fields.get(0)));
+        // The insured name starts with '=', so it comes back behind the formula guard.
+        assertThat(fields)
+            .containsExactly(
+                expected.id().toString(),
+                expected.policyNumber(),
+                "'" + expected.insuredName(),
+                String.valueOf(expected.termNumber()),
+                expected.state(),
+                expected.status(),
+                expected.effectiveFromDate().toString(),
+                expected.effectiveToDate().toString(),
+                "125.50",
+                "",
+                "");
+      } else {
+        PolicyTermSummaryResponse row =
+            objectMapper.readValue(lines.get(0), PolicyTermSummaryResponse.class);
+        assertThat(row).isEqualTo(stored(row.id()));
+      }
+    }
+  }
+
+  private PolicyTermSummaryResponse stored(UUID id) {
+    return jdbcTemplate.queryForObject(
+        "SELECT t.id, p.policy_number, p.insured_name, t.term_number, t.state, t.status, "
+            + "t.effective_from_date, t.effective_to_date, t.balance_due, t.next_due_date, "
+            + "t.last_payment_date FROM policy_term t JOIN policy p ON p.id = t.policy_id "
+            + "WHERE t.id = ?",
+        (resultSet, rowNum) ->
+            new PolicyTermSummaryResponse(
+                resultSet.getObject(1, UUID.class),
+                resultSet.getString(2),
+                resultSet.getString(3),
+                resultSet.getInt(4),
+                resultSet.getString(5),
+                resultSet.getString(6),
+                resultSet.getObject(7, LocalDate.class),
+                resultSet.getObject(8, LocalDate.class),
+                resultSet.getBigDecimal(9),
+                resultSet.getObject(10, LocalDate.class),
+                resultSet.getObject(11, LocalDate.class)),
+        id);
+  }
+
+  // RFC 4180 fields: quoted fields may hold commas and doubled quotes.
+  private static List<String> decodeCsv(String line) {
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted && c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+        field.append('"');
+        i++;
+      } else if (c == '"') {
+        quoted = !quoted;
+      } else if (c == ',' && !quoted) {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else {
+        field.append(c);
+      }
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+
+  // Counts newlines and keeps only the first few lines; quoted CSV fields here never contain a
+  // newline.
+  private static final class LineCountingOutputStream extends OutputStream {
+    private static final int KEPT_LINES = 2;
+
+    private final ByteArrayOutputStream kept = new ByteArrayOutputStream();
+    private long lines;
+
+    @Override
+    public void write(int b) {
+      if (lines < KEPT_LINES) {
+        kept.write(b);
+      }
+      if (b == '\n') {
+        lines++;
+      }
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+      for (int i = offset; i < offset + length; i++) {
+        write(bytes[i]);
+      }
+    }
+
+    List<String> firstLines() {
+      return kept.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+  }
+}
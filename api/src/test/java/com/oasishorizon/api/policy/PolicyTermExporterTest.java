@@ -0,0 +1,32 @@
+package com.oasishorizon.api.policy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class PolicyTermExporterTest {
+
+  @Test
+  void leavesPlainTextUnquoted() {
+    assertThat(PolicyTermExporter.csvText("OH-000123")).isEqualTo("OH-000123");
+    assertThat(PolicyTermExporter.csvText("Smith-Jones")).isEqualTo("Smith-Jones");
+    assertThat(PolicyTermExporter.csvText("")).isEmpty();
+    assertThat(PolicyTermExporter.csvText(null)).isEmpty();
+  }
+
+  @Test
+  void quotesSeparatorsAndDoublesQuotes() {
+    assertThat(PolicyTermExporter.csvText("Insured, \"7\"")).isEqualTo("\"Insured, \"\"7\"\"\"");
+    assertThat(PolicyTermExporter.csvText("two\nlines")).isEqualTo("\"two\nlines\"");
+  }
+
+  @Test
+  void neutralizesFormulaPrefixes() {
+    assertThat(PolicyTermExporter.csvText("=HYPERLINK(\"http://x\")"))
+        .isEqualTo("\"'=HYPERLINK(\"\"http://x\"\")\"");
+    assertThat(PolicyTermExporter.csvText("+1")).isEqualTo("\"'+1\"");
+    assertThat(PolicyTermExporter.csvText("-2+3")).isEqualTo("\"'-2+3\"");
+    assertThat(PolicyTermExporter.csvText("@SUM(A1)")).isEqualTo("\"'@SUM(A1)\"");
+    assertThat(PolicyTermExporter.csvText("\tcmd")).isEqualTo("\"'\tcmd\"");
+  }
+}
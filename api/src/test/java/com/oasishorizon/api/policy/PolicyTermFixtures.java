@@ -0,0 +1,98 @@
+package com.oasishorizon.api.policy;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// Deterministic policies and terms for database tests; the search read model fills by trigger.
+final class PolicyTermFixtures {
+  // Names that a linguistic collation orders differently from code points: case, accents,
+  // punctuation, digits, a supplementary character and one from U+E000..U+FFFF. Repeats give
+  // sort ties that only the id tiebreaker settles.
+  static final List<String> INSURED_NAMES =
+      List.of(
+          "smith",
+          "Smith",
+          "SMITH",
+          "Émile Zola",
+          "emile zola",
+          "O'Neil",
+          "ONeil",
+          "van der Berg",
+          "Van Berg",
+          "Zoë",
+          "zoe",
+          "_Under",
+          "-Dash",
+          "Abe 2",
+          "Abe 10",
+          "𝒜lpha",
+          "Ａcme",
+          "Åsa");
+  static final List<String> STATES = List.of("NY", "CA", "TX", "WA");
+  static final List<String> STATUSES = List.of("ACTIVE", "PENDING_RENEWAL", "LAPSED", "CANCELLED");
+
+  private static final List<String> POLICY_PREFIXES = List.of("OH", "oh", "AB");
+  private static final LocalDate FIRST_TERM = LocalDate.of(2024, 1, 1);
+
+  private PolicyTermFixtures() {}
+
+  // Policies carry an old updated_at; each term's updated_at falls within the last hour.
+  static void replaceAll(JdbcTemplate jdbcTemplate, int policyCount) {
+    jdbcTemplate.execute("TRUNCATE TABLE policy_term, policy");
+    Random random = new Random(policyCount);
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    Timestamp policyTime = Timestamp.from(now.minus(2, ChronoUnit.HOURS));
+    List<Object[]> policies = new ArrayList<>();
+    List<Object[]> terms = new ArrayList<>();
+    for (int i = 0; i < policyCount; i++) {
+      UUID policyId = new UUID(random.nextLong(), random.nextLong());
+      String prefix = POLICY_PREFIXES.get(i % POLICY_PREFIXES.size());
+      policies.add(
+          new Object[] {
+            policyId,
+            String.format("%s-%06d", prefix, i),
+            INSURED_NAMES.get(i % INSURED_NAMES.size()),
+            policyTime,
+            policyTime
+          });
+      int termCount = 1 + random.nextInt(3);
+      for (int termNumber = 1; termNumber <= termCount; termNumber++) {
+        LocalDate from = FIRST_TERM.plusDays(random.nextInt(700));
+        Timestamp updatedAt = Timestamp.from(now.minusSeconds(random.nextInt(3_600)));
+        terms.add(
+            new Object[] {
+              new UUID(random.nextLong(), random.nextLong()),
+              policyId,
+              termNumber,
+              STATES.get(random.nextInt(STATES.size())),
+              STATUSES.get(random.nextInt(STATUSES.size())),
+              Date.valueOf(from),
+              Date.valueOf(from.plusYears(1)),
+              random.nextInt(500_000) / 100.0,
+              random.nextInt(4) == 0 ? null : Date.valueOf(from.plusDays(random.nextInt(365))),
+              random.nextInt(4) == 0 ? null : Date.valueOf(from.plusDays(random.nextInt(365))),
+              updatedAt,
+              updatedAt
+            });
+      }
+    }
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO policy (id, policy_number, insured_name, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?)",
+        policies);
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO policy_term (id, policy_id, term_number, state, status, "
+            + "effective_from_date, effective_to_date, balance_due, next_due_date, "
+            + "last_payment_date, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?::numeric(12, 2), ?, ?, ?, ?)",
+        terms);
+  }
+}
@@ -0,0 +1,75 @@
+package com.oasishorizon.api.policy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.oasishorizon.api.DatabaseTest;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// The keyword predicates from PolicyTermPredicates must stay index-eligible: lower(column) LIKE ?
+// ESCAPE has to match the trigram and text_pattern_ops expression indexes. Sequential scans are
+// disabled so the fixture table's size does not hide a predicate that no index can serve.
+class PolicyTermIndexUsageDatabaseTest extends DatabaseTest {
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void seed() {
+    PolicyTermFixtures.replaceAll(jdbcTemplate, 1_000);
+    // Vacuum merges the GIN pending lists, which otherwise make the trigram indexes look costly.
+    jdbcTemplate.execute("VACUUM ANALYZE policy_term_search");
+  }
+
+  @Test
+  void policyNumberPrefixUsesThePatternOpsIndex() {
+    String plan = explain(PolicyTermFilter.of("OH-0001", null, null, null, null));
+
+    assertThat(plan).contains("idx_policy_term_search_policy_number_prefix");
+  }
+
+  @Test
+  void keywordSearchUsesBothTrigramIndexes() {
+    String plan = explain(PolicyTermFilter.of("Quixote", null, null, null, null));
+
+    assertThat(plan)
+        .contains("idx_policy_term_search_policy_number_trgm")
+        .contains("idx_policy_term_search_insured_name_trgm");
+  }
+
+  private String explain(PolicyTermFilter filter) {
+    PolicyTermPredicates predicates = PolicyTermPredicates.of(filter);
+    return jdbcTemplate.execute(
+        (ConnectionCallback<String>)
+            connection -> {
+              try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+              }
+              StringBuilder plan = new StringBuilder();
+              try (PreparedStatement explain =
+                  connection.prepareStatement(
+                      "EXPLAIN SELECT term_id FROM policy_term_search"
+                          + predicates.whereSql())) {
+                List<Object> args = predicates.sqlArgs();
+                for (int i = 0; i < args.size(); i++) {
+                  explain.setObject(i + 1, args.get(i));
+                }
+                try (ResultSet rows = explain.executeQuery()) {
+                  while (rows.next()) {
+                    plan.append(rows.getString(1)).append('\n');
+                  }
+                }
+              } finally {
+                try (Statement statement = connection.createStatement()) {
+                  statement.execute("RESET enable_seqscan");
+                }
+              }
+              return plan.toString();
+            });
+  }
+}
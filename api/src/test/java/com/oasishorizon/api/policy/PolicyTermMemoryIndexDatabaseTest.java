@@ -0,0 +1,146 @@
+package com.oasishorizon.api.policy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.oasishorizon.api.DatabaseTest;
+import com.oasishorizon.api.policy.dto.PolicyTermSummaryResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// The in-memory index must return exactly the pages the database returns, including row order
+// and cursor boundaries under the database's linguistic default collation.
+class PolicyTermMemoryIndexDatabaseTest extends DatabaseTest {
+  private static final int PAGE_SIZE = 7;
+  private static final List<String> SORT_PROPERTIES =
+      List.of(
+          "effectiveToDate",
+          "effectiveFromDate",
+          "policyNumber",
+          "insuredName",
+          "state",
+          "status",
+          "termNumber");
+  private static final List<PolicyTermFilter> FILTERS =
+      List.of(
+          PolicyTermFilter.of(null, null, null, null, null),
+          PolicyTermFilter.of("mi", null, null, null, null),
+          PolicyTermFilter.of("OH-0001", null, null, null, null),
+          PolicyTermFilter.of("émile", List.of("NY", "CA"), null, null, null),
+          PolicyTermFilter.of(
+              null, null, List.of("ACTIVE", "LAPSED"), LocalDate.of(2025, 1, 1), null),
+          PolicyTermFilter.of(
+              null,
+              List.of("TX"),
+              null,
+              null,
+              null,
+              PolicyTermDateField.NEXT_DUE,
+              LocalDate.of(2024, 6, 1),
+              LocalDate.of(2025, 6, 1)));
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PolicyTermService policyTermService;
+  @Autowired private PolicyTermRepository policyTermRepository;
+  @Autowired private PolicyTermVersionTracker versionTracker;
+
+  @BeforeEach
+  void seed() {
+    PolicyTermFixtures.replaceAll(jdbcTemplate, 150);
+    versionTracker.refresh();
+  }
+
+  @Test
+  void returnsTheSamePagesAsTheDatabase() {
+    PolicyTermSnapshot snapshot =
+        PolicyTermSnapshot.of(
+            policyTermRepository.findSummaries(
+                (root, query, criteriaBuilder) -> criteriaBuilder.conjunction(),
+                Sort.by("id"),
+                0,
+                Integer.MAX_VALUE));
+
+    for (PolicyTermFilter filter : FILTERS) {
+      for (String property : SORT_PROPERTIES) {
+        for (Sort.Direction direction : Sort.Direction.values()) {
+          Sort sort = Sort.by(direction, property);
+          PageRequest secondPage = PageRequest.of(1, PAGE_SIZE, sort);
+          assertThat(snapshot.search(filter, secondPage, Optional.empty(), true))
+              .as("%s sorted by %s", filter, sort)
+              .isEqualTo(policyTermService.search(filter, secondPage, Optional.empty(), true));
+
+          PageRequest firstPage = PageRequest.of(0, PAGE_SIZE, sort);
+          Optional<PolicyTermCursor> cursor = Optional.empty();
+          do {
+            PolicyTermSearchResult database =
+                policyTermService.search(filter, firstPage, cursor, false);
+            assertThat(snapshot.search(filter, firstPage, cursor, false))
+                .as("%s sorted by %s after %s", filter, sort, cursor)
+                .isEqualTo(database);
+            cursor =
+                database.hasNext()
+                    ? Optional.of(cursorAfter(property, direction, database.items()))
+                    : Optional.empty();
+          } while (cursor.isPresent());
+        }
+      }
+    }
+  }
+
+  @Test
+  void refreshMergesLateCommitsBehindTheWatermark() {
+    PolicyTermMemoryIndex index =
+        new PolicyTermMemoryIndex(
+            policyTermRepository,
+            versionTracker,
+            new PolicyTermMemoryIndexProperties(Duration.ofMinutes(1)));
+    index.load();
+    // Commits with an updated_at behind max(updated_at): neither the watermark nor the row
+    // count moves, so only the overlap window finds it.
+    UUID termId =
+        jdbcTemplate.queryForObject(
+            "SELECT id FROM policy_term WHERE status <> 'LAPSED' "
+                + "AND updated_at < (SELECT max(updated_at) FROM policy_term) "
+                + "ORDER BY id LIMIT 1",
+            UUID.class);
+    jdbcTemplate.update(
+        "UPDATE policy_term SET status = 'LAPSED', "
+            + "updated_at = (SELECT max(updated_at) FROM policy_term) - interval '5 seconds' "
+            + "WHERE id = ?",
+        termId);
+
+    index.refresh();
+
+    PolicyTermSearchResult lapsed =
+        index.search(
+            PolicyTermFilter.of(null, null, List.of("LAPSED"), null, null),
+            PageRequest.of(0, 1_000, Sort.by("effectiveToDate")),
+            Optional.empty(),
+            false);
+    assertThat(lapsed.items()).extracting(PolicyTermSummaryResponse::id).contains(termId);
+  }
+
+  private static PolicyTermCursor cursorAfter(
+      String property, Sort.Direction direction, List<PolicyTermSummaryResponse> items) {
+    PolicyTermSummaryResponse last = items.get(items.size() - 1);
+    Comparable<?> value =
+        switch (property) {
+          case "effectiveFromDate" -> last.effectiveFromDate();
+          case "policyNumber" -> last.policyNumber();
+          case "insuredName" -> last.insuredName();
+          case "state" -> last.state();
+          case "status" -> last.status();
+          case "termNumber" -> last.termNumber();
+          default -> last.effectiveToDate();
+        };
+    return new PolicyTermCursor(property, direction, value, last.id());
+  }
+}
@@ -0,0 +1,72 @@
+package com.oasishorizon.api.policy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PolicyTermPredicatesTest {
+
+  @Test
+  void rendersEveryFilterAsOneWhereClause() {
+    PolicyTermPredicates predicates =
+        PolicyTermPredicates.of(
+            PolicyTermFilter.of(
+                "smith",
+                List.of("ca", "NY"),
+                List.of("active"),
+                LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 12, 31),
+                PolicyTermDateField.NEXT_DUE,
+                LocalDate.of(2025, 2, 1),
+                null));
+
+    assertThat(predicates.whereSql())
+        .isEqualTo(
+            " WHERE true"
+                + " AND (lower(policy_number) LIKE ? ESCAPE '\\'"
+                + " OR lower(insured_name) LIKE ? ESCAPE '\\')"
+                + " AND state = ANY(?)"
+                + " AND status = ANY(?)"
+                + " AND effective_to_date >= ?"
+                + " AND effective_to_date <= ?"
+                + " AND next_due_date >= ?");
+    assertThat(predicates.sqlArgs())
+        .containsExactly(
+            "%smith%",
+            "%smith%",
+            new String[] {"CA", "NY"},
+            new String[] {"ACTIVE"},
+            LocalDate.of(2025, 1, 1),
+            LocalDate.of(2025, 12, 31),
+            LocalDate.of(2025, 2, 1));
+  }
+
+  @Test
+  void matchesPolicyNumberPrefixesWithoutLeadingWildcard() {
+    PolicyTermPredicates predicates =
+        PolicyTermPredicates.of(PolicyTermFilter.of("OH-12", null, null, null, null));
+
+    assertThat(predicates.whereSql())
+        .isEqualTo(" WHERE true AND lower(policy_number) LIKE ? ESCAPE '\\'");
+    assertThat(predicates.sqlArgs()).containsExactly("oh-12%");
+  }
+
+  @Test
+  void escapesLikeWildcardsInTheQuery() {
+    PolicyTermPredicates predicates =
+        PolicyTermPredicates.of(PolicyTermFilter.of("50%_a\\b", null, null, null, null));
+
+    assertThat(predicates.sqlArgs()).containsExactly("%50\\%\\_a\\\\b%", "%50\\%\\_a\\\\b%");
+  }
+
+  @Test
+  void sqlDependsOnlyOnTheFilterShape() {
+    PolicyTermFilter one = PolicyTermFilter.of("a", List.of("CA"), null, null, null);
+    PolicyTermFilter other = PolicyTermFilter.of("b", List.of("NY", "TX", "WA"), null, null, null);
+
+    assertThat(PolicyTermPredicates.of(one).whereSql())
+        .isEqualTo(PolicyTermPredicates.of(other).whereSql());
+  }
+}
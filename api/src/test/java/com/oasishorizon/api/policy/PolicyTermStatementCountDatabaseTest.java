@@ -0,0 +1,109 @@
+package com.oasishorizon.api.policy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.oasishorizon.api.DatabaseTest;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+// Guards against per-row lazy loads: the statements a request executes over JDBC, as counted for
+// oasis.request.sql.statements, must not grow with the page size.
+@AutoConfigureMockMvc
+class PolicyTermStatementCountDatabaseTest extends DatabaseTest {
+  private static final String SEARCH = "GET /api/policy-terms";
+  private static final String DETAIL = "GET /api/policy-terms/{termId}";
+  private static final String PLAN = "POST /api/policy-terms/plan";
+
+  @Autowired private MockMvc mockMvc;
+  @Autowired private MeterRegistry meterRegistry;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PolicyTermVersionTracker versionTracker;
+
+  @BeforeEach
+  void seed() {
+    PolicyTermFixtures.replaceAll(jdbcTemplate, 150);
+    versionTracker.refresh();
+  }
+
+  @Test
+  void pageStatementsDoNotGrowWithPageSize() throws Exception {
+    double small = statements(SEARCH, "/api/policy-terms?size=5&sort=insured_name,asc", 5);
+    double large = statements(SEARCH, "/api/policy-terms?size=100&sort=insured_name,asc", 100);
+    double withoutTotal =
+        statements(SEARCH, "/api/policy-terms?size=100&status=ACTIVE&include_total=false", -1);
+
+    assertThat(small).isBetween(1.0, 2.0);
+    assertThat(large).isEqualTo(small);
+    assertThat(withoutTotal).isEqualTo(1);
+  }
+
+  @Test
+  void detailIsOneStatement() throws Exception {
+    UUID termId =
+        jdbcTemplate.queryForObject("SELECT id FROM policy_term ORDER BY id LIMIT 1", UUID.class);
+
+    assertThat(statements(DETAIL, "/api/policy-terms/" + termId, -1)).isEqualTo(1);
+  }
+
+  // Compiled plans run through JdbcTemplate rather than Hibernate.
+  @Test
+  void planStatementsAreCounted() throws Exception {
+    double withTotal =
+        statements(
+            PLAN,
+            post("/api/policy-terms/plan")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"statuses\":[\"ACTIVE\"],\"sort\":\"policy_number,asc\",\"size\":5}"),
+            5);
+    double withoutTotal =
+        statements(
+            PLAN,
+            post("/api/policy-terms/plan")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"states\":[\"CA\"],\"size\":100,\"includeTotal\":false}"),
+            -1);
+
+    assertThat(withTotal).isEqualTo(2);
+    assertThat(withoutTotal).isEqualTo(1);
+  }
+
+  private double statements(String endpoint, String url, int expectedItems) throws Exception {
+    return statements(endpoint, get(url), expectedItems);
+  }
+
+  // Statements recorded for one request; expectedItems < 0 skips the page size check.
+  private double statements(String endpoint, RequestBuilder request, int expectedItems)
+      throws Exception {
+    double before = total(endpoint);
+    ResultActions result = mockMvc.perform(request).andExpect(status().isOk());
+    if (expectedItems >= 0) {
+      String items = endpoint.equals(PLAN) ? "$.page.items.length()" : "$.items.length()";
+      result.andExpect(jsonPath(items).value(expectedItems));
+    }
+    return total(endpoint) - before;
+  }
+
+  private double total(String endpoint) {
+    return meterRegistry
+        .find("oasis.request.sql.statements")
+        .tag("endpoint", endpoint)
+        .summaries()
+        .stream()
+        .mapToDouble(DistributionSummary::totalAmount)
+        .sum();
+  }
+}
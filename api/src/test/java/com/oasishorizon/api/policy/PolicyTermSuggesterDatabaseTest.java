@@ -0,0 +1,48 @@
+package com.oasishorizon.api.policy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.oasishorizon.api.DatabaseTest;
+import com.oasishorizon.api.policy.dto.PolicyTermSuggestion;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class PolicyTermSuggesterDatabaseTest extends DatabaseTest {
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PolicyTermVersionTracker versionTracker;
+
+  @BeforeEach
+  void seed() {
+    PolicyTermFixtures.replaceAll(jdbcTemplate, 60);
+    versionTracker.refresh();
+  }
+
+  @Test
+  void mergesLateCommitsBehindTheWatermark() {
+    // Built directly: the context's bean merges asynchronously.
+    PolicyTermSuggester suggester =
+        new PolicyTermSuggester(
+            jdbcTemplate, versionTracker, new PolicyTermSuggestProperties(Duration.ofMinutes(1)));
+    suggester.load();
+    PolicyTermDataVersion loaded = versionTracker.read();
+    // A renamed policy whose updated_at is behind max(updated_at), as when its writer commits
+    // after a later one.
+    jdbcTemplate.update(
+        "UPDATE policy SET insured_name = 'Latecomer Mutual', "
+            + "updated_at = (SELECT max(updated_at) FROM policy_term) - interval '5 seconds' "
+            + "WHERE id = (SELECT id FROM policy ORDER BY id LIMIT 1)");
+    // A later write moves the data version so that a change event fires.
+    jdbcTemplate.update(
+        "UPDATE policy_term SET updated_at = now() "
+            + "WHERE id = (SELECT id FROM policy_term ORDER BY id DESC LIMIT 1)");
+
+    suggester.onDataChanged(new PolicyTermDataChangedEvent(loaded, versionTracker.read()));
+
+    assertThat(suggester.suggest("latecomer", 5))
+        .extracting(PolicyTermSuggestion::insuredName)
+        .containsExactly("Latecomer Mutual");
+  }
+}
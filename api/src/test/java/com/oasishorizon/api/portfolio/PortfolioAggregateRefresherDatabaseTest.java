@@ -0,0 +1,95 @@
+package com.oasishorizon.api.portfolio;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.oasishorizon.api.DatabaseTest;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class PortfolioAggregateRefresherDatabaseTest extends DatabaseTest {
+  private static final String AGGREGATE =
+      "SELECT state, status, next_due_date, overdue, term_count, balance_cents "
+          + "FROM portfolio_billing_aggregate ORDER BY 1, 2, 3, 4";
+  private static final String RECOMPUTED =
+      "SELECT state, status, coalesce(next_due_date, 'infinity'::date) AS next_due_date, "
+          + "coalesce(last_payment_date < next_due_date, false) AS overdue, "
+          + "count(*) AS term_count, sum((balance_due * 100)::bigint)::bigint AS balance_cents "
+          + "FROM policy_term GROUP BY 1, 2, 3, 4 ORDER BY 1, 2, 3, 4";
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PortfolioAggregateRefresher refresher;
+
+  // Every term carries a timestamp far behind the watermark, so only the pending ids recorded
+  // by the V12 triggers can bring inserts and deletes into an incremental refresh.
+  @BeforeEach
+  void seed() {
+    jdbcTemplate.execute("TRUNCATE TABLE policy_term, policy");
+    jdbcTemplate.update(
+        "INSERT INTO policy (id, policy_number, insured_name, created_at, updated_at) "
+            + "SELECT md5('p' || i)::uuid, 'PF-' || i, 'Insured ' || i, "
+            + "now() - interval '30 days', now() - interval '30 days' "
+            + "FROM generate_series(1, 40) i");
+    jdbcTemplate.update(
+        "INSERT INTO policy_term (id, policy_id, term_number, state, status, "
+            + "effective_from_date, effective_to_date, balance_due, next_due_date, "
+            + "last_payment_date, created_at, updated_at) "
+            + "SELECT md5('t' || i)::uuid, md5('p' || i)::uuid, 1, "
+            + "(ARRAY['NY', 'CA'])[1 + i % 2], (ARRAY['ACTIVE', 'LAPSED'])[1 + i % 3 / 2], "
+            + "date '2025-01-01', date '2026-01-01', i * 10.25, date '2025-06-01' + i % 4, "
+            + "date '2025-05-30' + i % 5, now() - interval '30 days', now() - interval '30 days' "
+            + "FROM generate_series(1, 40) i");
+    // Rebuilds after the truncate, then moves the watermark to the seeded timestamps.
+    refresher.refresh();
+    assertThat(jdbcTemplate.queryForList(AGGREGATE)).isEqualTo(recomputed());
+  }
+
+  @Test
+  void subtractsDeletedTerms() {
+    jdbcTemplate.update(
+        "DELETE FROM policy_term WHERE id IN (md5('t3')::uuid, md5('t8')::uuid, md5('t9')::uuid)");
+
+    refresher.refresh();
+
+    assertThat(jdbcTemplate.queryForList(AGGREGATE)).isEqualTo(recomputed());
+  }
+
+  @Test
+  void appliesADeleteAndAnInsertThatKeepTheTermCount() {
+    jdbcTemplate.update("DELETE FROM policy_term WHERE id = md5('t5')::uuid");
+    jdbcTemplate.update(
+        "INSERT INTO policy_term (id, policy_id, term_number, state, status, "
+            + "effective_from_date, effective_to_date, balance_due, next_due_date, "
+            + "last_payment_date, created_at, updated_at) "
+            + "VALUES (md5('t41')::uuid, md5('p5')::uuid, 2, 'TX', 'ACTIVE', "
+            + "date '2026-01-01', date '2027-01-01', 99.99, date '2026-02-01', NULL, "
+            + "now() - interval '60 days', now() - interval '60 days')");
+
+    refresher.refresh();
+
+    assertThat(jdbcTemplate.queryForList(AGGREGATE)).isEqualTo(recomputed());
+    assertThat(
+            jdbcTemplate.queryForObject("SELECT count(*) FROM portfolio_pending_term", Long.class))
+        .isZero();
+  }
+
+  @Test
+  void reinsertsADeletedTermWithItsNewValues() {
+    jdbcTemplate.update(
+        "WITH removed AS (DELETE FROM policy_term WHERE id = md5('t7')::uuid RETURNING *) "
+            + "INSERT INTO policy_term SELECT id, policy_id, term_number, 'WA', 'CANCELLED', "
+            + "effective_from_date, effective_to_date, 0, next_due_date, last_payment_date, "
+            + "created_at, updated_at FROM removed");
+
+    refresher.refresh();
+
+    assertThat(jdbcTemplate.queryForList(AGGREGATE)).isEqualTo(recomputed());
+  }
+
+  private List<Map<String, Object>> recomputed() {
+    return jdbcTemplate.queryForList(RECOMPUTED);
+  }
+}
@@ -0,0 +1,44 @@
+package com.oasishorizon.api.policy;
+
+import com.oasishorizon.api.policy.dto.PolicyTermSummaryResponse;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+final class BenchmarkData {
+  private static final String[] STATES = {"CA", "TX", "NY", "FL", "IL", "WA", "OR", "AZ"};
+  private static final String[] STATUSES = {"ACTIVE", "EXPIRED", "CANCELLED", "NON_RENEWED"};
+  private static final String[] NAMES = {
+    "Ava Garcia", "Ethan Patel Holdings", "Maya Nguyen", "Liam Kim Group", "Noah Chen"
+  };
+
+  private BenchmarkData() {}
+
+  static List<PolicyTermSummaryResponse> summaries(int count) {
+    SplittableRandom random = new SplittableRandom(49201L);
+    LocalDate anchor = LocalDate.of(2024, 1, 1);
+    List<PolicyTermSummaryResponse> rows = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      LocalDate effectiveFrom = anchor.minusDays(random.nextInt(730));
+      LocalDate nextDue = effectiveFrom.plusMonths(1 + random.nextInt(3));
+      rows.add(
+          new PolicyTermSummaryResponse(
+              UUID.nameUUIDFromBytes(("term-" + i).getBytes(StandardCharsets.UTF_8)),
+              String.format("OH-%06d", i + 1),
+              NAMES[random.nextInt(NAMES.length)],
+              1 + random.nextInt(3),
+              STATES[random.nextInt(STATES.length)],
+              STATUSES[random.nextInt(STATUSES.length)],
+              effectiveFrom,
+              effectiveFrom.plusYears(1).minusDays(1),
+              BigDecimal.valueOf(5_000 + random.nextInt(145_000), 2),
+              nextDue,
+              nextDue.minusDays(5 + random.nextInt(20))));
+    }
+    return rows;
+  }
+}
@@ -0,0 +1,114 @@
+package com.oasishorizon.api.policy;
+
+import com.oasishorizon.api.policy.dto.PolicyTermSummaryResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+
+// Per-search statement preparation: a Criteria query built from the filter and handed to
+// Hibernate, against a cached filter plan that only binds parameters. Neither opens a
+// connection, so Hibernate's SQL rendering (done at execution) is not included on its side.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterPlanBenchmark {
+  @Param({"keyword", "all"})
+  public String filters;
+
+  private final Sort sort = Sort.by(Sort.Order.asc("effectiveToDate"));
+  private SessionFactory sessionFactory;
+  private Session session;
+  private PolicyTermFilter filter;
+  // Plans never touch the JdbcTemplate until executed.
+  private final PolicyTermPlanCompiler planCompiler =
+      new PolicyTermPlanCompiler(null, new SimpleMeterRegistry());
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    sessionFactory =
+        new Configuration()
+            .addAnnotatedClass(Policy.class)
+            .addAnnotatedClass(PolicyTerm.class)
+            .addAnnotatedClass(PolicyTermSearchRow.class)
+            .setProperty("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect")
+            .setProperty("hibernate.boot.allow_jdbc_metadata_access", "false")
+            .buildSessionFactory();
+    session = sessionFactory.openSession();
+    filter =
+        switch (filters) {
+          case "all" ->
+              PolicyTermFilter.of(
+                  "garcia",
+                  List.of("CA", "TX"),
+                  List.of("ACTIVE", "EXPIRED"),
+                  LocalDate.of(2024, 1, 1),
+                  LocalDate.of(2025, 12, 31));
+          default -> PolicyTermFilter.of("garcia", null, null, null, null);
+        };
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    session.close();
+    sessionFactory.close();
+  }
+
+  @Benchmark
+  public TypedQuery<PolicyTermSummaryResponse> criteriaQuery() {
+    CriteriaBuilder criteriaBuilder = session.getCriteriaBuilder();
+    CriteriaQuery<PolicyTermSummaryResponse> criteriaQuery =
+        criteriaBuilder.createQuery(PolicyTermSummaryResponse.class);
+    Root<PolicyTermSearchRow> root = criteriaQuery.from(PolicyTermSearchRow.class);
+    criteriaQuery.where(
+        PolicyTermService.buildSpecification(filter)
+            .toPredicate(root, criteriaQuery, criteriaBuilder));
+    criteriaQuery.select(
+        criteriaBuilder.construct(
+            PolicyTermSummaryResponse.class,
+            root.get("id"),
+            root.get("policyNumber"),
+            root.get("insuredName"),
+            root.get("termNumber"),
+            root.get("state"),
+            root.get("status"),
+            root.get("effectiveFromDate"),
+            root.get("effectiveToDate"),
+            root.get("balanceDue"),
+            root.get("nextDueDate"),
+            root.get("lastPaymentDate")));
+    criteriaQuery.orderBy(
+        criteriaBuilder.asc(root.get("effectiveToDate")), criteriaBuilder.asc(root.get("id")));
+    return session.createQuery(criteriaQuery).setFirstResult(0).setMaxResults(21);
+  }
+
+  @Benchmark
+  public Object[] compiledPlan() {
+    PolicyTermFilterPlan plan = planCompiler.plan(filter, sort.iterator().next());
+    return plan.bindPage(filter, 0, 21);
+  }
+}
@@ -0,0 +1,86 @@
+package com.oasishorizon.api.policy;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.oasishorizon.api.policy.dto.PolicyTermColumnarPageResponse;
+import com.oasishorizon.api.policy.dto.PolicyTermPageResponse;
+import com.oasishorizon.api.policy.dto.PolicyTermSummaryResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// Encode cost per page for each negotiated format; the setup prints raw and gzipped sizes.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseFormatBenchmark {
+  @Param({"json", "columnar", "cbor", "smile"})
+  public String format;
+
+  @Param({"20", "200"})
+  public int size;
+
+  private ObjectWriter writer;
+  private PolicyTermPageResponse page;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    List<PolicyTermSummaryResponse> rows = BenchmarkData.summaries(size);
+    page = new PolicyTermPageResponse(rows, 0, size, 10_000L, 10_000 / size, "exact", null);
+    writer =
+        switch (format) {
+          case "columnar" -> mapper(null).writerFor(PolicyTermColumnarPageResponse.class);
+          case "cbor" -> mapper(new CBORFactory()).writerFor(PolicyTermPageResponse.class);
+          case "smile" -> mapper(new SmileFactory()).writerFor(PolicyTermPageResponse.class);
+          default -> mapper(null).writerFor(PolicyTermPageResponse.class);
+        };
+
+    byte[] raw = encode();
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(raw);
+    }
+    System.out.printf(
+        "%n[wire] format=%s size=%d bytes=%d gzip=%d%n",
+        format, size, raw.length, compressed.size());
+  }
+
+  @Benchmark
+  public byte[] encode() throws IOException {
+    Object value =
+        format.equals("columnar")
+            ? PolicyTermColumnarHttpMessageConverter.toColumnar(page)
+            : page;
+    return writer.writeValueAsBytes(value);
+  }
+
+  // Matches the API's Spring Boot Jackson defaults (ISO dates rather than timestamps).
+  private static ObjectMapper mapper(JsonFactory factory) {
+    Jackson2ObjectMapperBuilder builder =
+        Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    return factory == null ? builder.build() : builder.factory(factory).build();
+  }
+}
@@ -0,0 +1,81 @@
+package com.oasishorizon.api.policy;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.oasishorizon.api.policy.dto.PolicyTermPageResponse;
+import com.oasishorizon.api.policy.dto.PolicyTermSummaryResponse;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// Summaries are projected by Hibernate rather than mapped from entities, so the mapping cost
+// measured here is the in-memory index materializing rows plus cursor and JSON encoding.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMappingBenchmark {
+  @Param({"20", "200"})
+  public int size;
+
+  private ObjectWriter pageWriter;
+  private PolicyTermSnapshot snapshot;
+  private PolicyTermPageResponse page;
+  private PolicyTermCursor cursor;
+  private String encodedCursor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    pageWriter = Jackson2ObjectMapperBuilder.json().build().writerFor(PolicyTermPageResponse.class);
+    List<PolicyTermSummaryResponse> rows = BenchmarkData.summaries(10_000);
+    snapshot = PolicyTermSnapshot.of(rows);
+    page =
+        new PolicyTermPageResponse(
+            rows.subList(0, size), 0, size, 10_000L, 10_000 / size, "exact", null);
+    PolicyTermSummaryResponse last = rows.get(size - 1);
+    cursor =
+        new PolicyTermCursor(
+            "effectiveToDate", Sort.Direction.ASC, last.effectiveToDate(), last.id());
+    encodedCursor = cursor.encode();
+  }
+
+  @Benchmark
+  public PolicyTermSearchResult materializePage() {
+    return snapshot.search(
+        PolicyTermFilter.of(null, null, List.of("ACTIVE"), null, null),
+        PageRequest.of(3, size, Sort.by("effectiveToDate")),
+        Optional.empty(),
+        true);
+  }
+
+  @Benchmark
+  public String encodeCursor() {
+    return cursor.encode();
+  }
+
+  @Benchmark
+  public PolicyTermCursor decodeCursor() {
+    return PolicyTermCursor.decode(encodedCursor);
+  }
+
+  @Benchmark
+  public byte[] serializePage() throws Exception {
+    return pageWriter.writeValueAsBytes(page);
+  }
+}
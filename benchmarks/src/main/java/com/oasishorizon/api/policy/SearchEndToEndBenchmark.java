@@ -0,0 +1,72 @@
+package com.oasishorizon.api.policy;
+
+import com.oasishorizon.api.ApiApplication;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+// Needs the local Postgres from docker-compose.yml; PolicySeedRunner reseeds it per data size.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchEndToEndBenchmark {
+  @Param({"1000", "100000", "1000000"})
+  public int policyCount;
+
+  @Param({"default", "keyword", "deep_page"})
+  public String scenario;
+
+  private ConfigurableApplicationContext context;
+  private PolicyTermService policyTermService;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    SpringApplication application = new SpringApplication(ApiApplication.class);
+    application.setWebApplicationType(WebApplicationType.NONE);
+    context =
+        application.run(
+            "--spring.profiles.active=local",
+            "--oasis.seed.policy-count=" + policyCount,
+            "--oasis.seed.async=false",
+            "--oasis.cache.enabled=false",
+            "--oasis.search.memory-index.enabled=false");
+    policyTermService = context.getBean(PolicyTermService.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public PolicyTermSearchResult search() {
+    PolicyTermFilter filter =
+        scenario.equals("keyword")
+            ? PolicyTermFilter.of("garcia", null, null, null, null)
+            : PolicyTermFilter.of(null, null, List.of("ACTIVE"), null, null);
+    int page = scenario.equals("deep_page") ? 200 : 0;
+    return policyTermService.search(
+        filter, PageRequest.of(page, 20, Sort.by("effectiveToDate")), Optional.empty(), true);
+  }
+}
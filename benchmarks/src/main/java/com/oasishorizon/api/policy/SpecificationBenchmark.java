@@ -0,0 +1,81 @@
+package com.oasishorizon.api.policy;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecificationBenchmark {
+  @Param({"none", "keyword", "prefix", "all"})
+  public String filters;
+
+  private SessionFactory sessionFactory;
+  private CriteriaBuilder criteriaBuilder;
+  private PolicyTermFilter filter;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    // Builds the metamodel offline; no database connection is opened.
+    sessionFactory =
+        new Configuration()
+            .addAnnotatedClass(Policy.class)
+            .addAnnotatedClass(PolicyTerm.class)
+            .addAnnotatedClass(PolicyTermSearchRow.class)
+            .setProperty("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect")
+            .setProperty("hibernate.boot.allow_jdbc_metadata_access", "false")
+            .buildSessionFactory();
+    criteriaBuilder = sessionFactory.getCriteriaBuilder();
+    filter =
+        switch (filters) {
+          case "keyword" -> PolicyTermFilter.of("garcia", null, null, null, null);
+          case "prefix" -> PolicyTermFilter.of("OH-0001", null, null, null, null);
+          case "all" ->
+              PolicyTermFilter.of(
+                  "garcia",
+                  List.of("CA", "TX"),
+                  List.of("ACTIVE", "EXPIRED"),
+                  LocalDate.of(2024, 1, 1),
+                  LocalDate.of(2025, 12, 31));
+          default -> PolicyTermFilter.of(null, null, null, null, null);
+        };
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    sessionFactory.close();
+  }
+
+  @Benchmark
+  public CriteriaQuery<PolicyTermSearchRow> buildPredicates() {
+    CriteriaQuery<PolicyTermSearchRow> criteriaQuery =
+        criteriaBuilder.createQuery(PolicyTermSearchRow.class);
+    Root<PolicyTermSearchRow> root = criteriaQuery.from(PolicyTermSearchRow.class);
+    criteriaQuery.where(
+        PolicyTermService.buildSpecification(filter)
+            .toPredicate(root, criteriaQuery, criteriaBuilder));
+    return criteriaQuery;
+  }
+}
@@ -0,0 +1,83 @@
+package com.oasishorizon.api.policy;
+
+import com.oasishorizon.api.policy.dto.PolicyTermSuggestion;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SuggestBenchmark {
+  private static final String[] FIRST_NAMES = {"Ava", "Ethan", "Maya", "Liam", "Noah", "Sophia"};
+  private static final String[] LAST_NAMES = {"Garcia", "Patel", "Nguyen", "Kim", "Chen"};
+  private static final String[] SUFFIXES = {"Holdings", "Group", "Logistics", "Foods", ""};
+
+  @Param({"100000", "1000000"})
+  public int policyCount;
+
+  @Param({"OH-00012", "pat", "maya ng", "logistics"})
+  public String query;
+
+  private PolicySuggestIndex index;
+  private List<PolicySuggestIndex.Source> changes;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(49201L);
+    List<PolicySuggestIndex.Source> policies = new ArrayList<>(policyCount);
+    for (int i = 0; i < policyCount; i++) {
+      policies.add(source(i, random));
+    }
+    index = PolicySuggestIndex.EMPTY.merge(policies);
+    changes = new ArrayList<>(policies.subList(0, 100));
+  }
+
+  @Benchmark
+  public List<PolicyTermSuggestion> suggest() {
+    return index.suggest(query, 10);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public PolicySuggestIndex mergeHundredChanges() {
+    return index.merge(changes);
+  }
+
+  private static PolicySuggestIndex.Source source(int i, SplittableRandom random) {
+    String name =
+        (FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]
+                + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)]
+                + " "
+                + SUFFIXES[random.nextInt(SUFFIXES.length)])
+            .strip();
+    List<UUID> terms = new ArrayList<>();
+    for (int term = 0; term < 1 + random.nextInt(3); term++) {
+      String termKey = "term-" + i + "-" + term;
+      terms.add(UUID.nameUUIDFromBytes(termKey.getBytes(StandardCharsets.UTF_8)));
+    }
+    return new PolicySuggestIndex.Source(
+        UUID.nameUUIDFromBytes(("policy-" + i).getBytes(StandardCharsets.UTF_8)),
+        String.format("OH-%06d", i + 1),
+        name,
+        terms);
+  }
+}
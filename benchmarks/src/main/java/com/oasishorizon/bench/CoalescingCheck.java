@@ -0,0 +1,91 @@
+package com.oasishorizon.bench;
+
+import com.oasishorizon.api.db.DatabaseCoalescingProperties;
+import com.oasishorizon.api.db.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Releases N identical calls at once into a {@link SingleFlight} whose work stands in for a
+ * database query, and checks that exactly one of them executed:
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.oasishorizon.bench.CoalescingCheck 200 100
+ * </pre>
+ *
+ * Arguments are the number of callers and the simulated query time in milliseconds. Exits with
+ * status 1 when more than one execution ran or a caller saw a different result.
+ */
+public final class CoalescingCheck {
+  private CoalescingCheck() {}
+
+  public static void main(String[] args) throws Exception {
+    int callers = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+    long queryMillis = args.length > 1 ? Long.parseLong(args[1]) : 100;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    SingleFlight<String, Integer> searches =
+        new SingleFlight<>(
+            "search", new DatabaseCoalescingProperties(true, Duration.ofSeconds(5)), meterRegistry);
+    AtomicInteger queries = new AtomicInteger();
+    CountDownLatch ready = new CountDownLatch(callers);
+    CountDownLatch start = new CountDownLatch(1);
+
+    List<Future<Integer>> results = new ArrayList<>(callers);
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < callers; i++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  ready.countDown();
+                  start.await();
+                  return searches.execute(
+                      "status=ACTIVE&page=0&size=20&sort=effective_to_date,asc",
+                      () -> {
+                        int query = queries.incrementAndGet();
+                        try {
+                          Thread.sleep(queryMillis);
+                        } catch (InterruptedException ex) {
+                          Thread.currentThread().interrupt();
+                        }
+                        return query;
+                      });
+                }));
+      }
+      ready.await();
+      start.countDown();
+    }
+
+    long distinctResults = results.stream().map(CoalescingCheck::join).distinct().count();
+    System.out.printf(
+        "callers=%d queries=%d distinctResults=%d executed=%.0f collapsed=%.0f timedOut=%.0f%n",
+        callers,
+        queries.get(),
+        distinctResults,
+        count(meterRegistry, "executed"),
+        count(meterRegistry, "collapsed"),
+        count(meterRegistry, "timed_out"));
+    if (queries.get() != 1 || distinctResults != 1) {
+      System.exit(1);
+    }
+  }
+
+  private static Integer join(Future<Integer> result) {
+    try {
+      return result.get();
+    } catch (Exception ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private static double count(SimpleMeterRegistry meterRegistry, String outcome) {
+    return meterRegistry.get("oasis.db.coalescing.calls").tag("outcome", outcome).counter().count();
+  }
+}
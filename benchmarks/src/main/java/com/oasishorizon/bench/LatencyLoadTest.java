@@ -0,0 +1,133 @@
+package com.oasishorizon.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop load generator for comparing tail latency between thread models. Start the API once
+ * with the defaults and once with {@code --spring.threads.virtual.enabled=true
+ * --oasis.db-admission.enabled=true}, then run against each:
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.oasishorizon.bench.LatencyLoadTest \
+ *   http://localhost:8080/api/policy-terms?status=ACTIVE 400 30
+ * </pre>
+ *
+ * Arguments are the URL, the number of concurrent clients and the duration in seconds.
+ */
+public final class LatencyLoadTest {
+  private LatencyLoadTest() {}
+
+  public static void main(String[] args) throws Exception {
+    URI uri = URI.create(args.length > 0 ? args[0] : "http://localhost:8080/api/policy-terms");
+    int clients = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+    Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+
+    HttpClient httpClient =
+        HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).build();
+    long deadline = System.nanoTime() + duration.toNanos();
+
+    List<Future<Samples>> workers = new ArrayList<>(clients);
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < clients; i++) {
+        workers.add(
+            executor.submit(
+                () -> {
+                  Samples samples = new Samples();
+                  while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    int status;
+                    try {
+                      status =
+                          httpClient
+                              .send(request, HttpResponse.BodyHandlers.discarding())
+                              .statusCode();
+                    } catch (Exception ex) {
+                      status = -1;
+                    }
+                    samples.add(status, System.nanoTime() - start);
+                  }
+                  return samples;
+                }));
+      }
+    }
+
+    Samples samples = new Samples();
+    for (Future<Samples> worker : workers) {
+      samples.addAll(worker.get());
+    }
+    samples.sort();
+    // Percentiles cover 2xx responses only: a fast 503 from load shedding would otherwise pull
+    // them down. Shed and failed requests (other statuses and I/O errors) are reported apart.
+    System.out.printf(
+        "{\"url\":\"%s\",\"clients\":%d,\"requests\":%d,\"ok\":%d,\"ok_rps\":%.1f,"
+            + "\"p50_ms\":%.2f,\"p95_ms\":%.2f,\"p99_ms\":%.2f,\"max_ms\":%.2f,"
+            + "\"shed_503\":%d,\"shed_p50_ms\":%.2f,\"shed_max_ms\":%.2f,"
+            + "\"failed\":%d,\"failed_p50_ms\":%.2f,\"failed_max_ms\":%.2f}%n",
+        uri,
+        clients,
+        samples.ok.size() + samples.shed.size() + samples.failed.size(),
+        samples.ok.size(),
+        samples.ok.size() / (double) duration.toSeconds(),
+        percentile(samples.ok, 0.50),
+        percentile(samples.ok, 0.95),
+        percentile(samples.ok, 0.99),
+        percentile(samples.ok, 1.0),
+        samples.shed.size(),
+        percentile(samples.shed, 0.50),
+        percentile(samples.shed, 1.0),
+        samples.failed.size(),
+        percentile(samples.failed, 0.50),
+        percentile(samples.failed, 1.0));
+  }
+
+  private static double percentile(List<Long> sorted, double quantile) {
+    if (sorted.isEmpty()) {
+      return 0;
+    }
+    int index = (int) Math.ceil(quantile * sorted.size()) - 1;
+    return sorted.get(Math.max(0, index)) / 1_000_000.0;
+  }
+
+  // Latencies in nanoseconds by outcome; -1 stands for a request that got no response.
+  private static final class Samples {
+    private final List<Long> ok = new ArrayList<>();
+    private final List<Long> shed = new ArrayList<>();
+    private final List<Long> failed = new ArrayList<>();
+
+    void add(int status, long latency) {
+      if (status >= 200 && status < 300) {
+        ok.add(latency);
+      } else if (status == 503) {
+        shed.add(latency);
+      } else {
+        failed.add(latency);
+      }
+    }
+
+    void addAll(Samples other) {
+      ok.addAll(other.ok);
+      shed.addAll(other.shed);
+      failed.addAll(other.failed);
+    }
+
+    void sort() {
+      Collections.sort(ok);
+      Collections.sort(shed);
+      Collections.sort(failed);
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package com.oasishorizon.bench;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Launches the API as a child process several times and reports, from process start, the time to
+ * the first 200 from {@code /ready} and then to the first {@code /api/policy-terms} page with at
+ * least one item, so an empty or still-seeding database does not count as started. Run it once
+ * per build to compare them, e.g. the plain jar against the {@code fast-startup} build with its
+ * CDS archive:
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.oasishorizon.bench.StartupTimeCheck 5 http://localhost:8080 \
+ *   -- java -jar ../api/target/oasis-horizon-api-0.0.1-SNAPSHOT-exec.jar \
+ *   --spring.profiles.active=local
+ * </pre>
+ *
+ * Arguments are the number of runs and the API base URL, then {@code --} and the launch command.
+ * Each run's output goes to a temporary log file, which is kept when the run fails.
+ */
+public final class StartupTimeCheck {
+  private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+  private static final long POLL_MILLIS = 10;
+  // A page whose items array has at least one element.
+  private static final Pattern ITEMS = Pattern.compile("\"items\"\\s*:\\s*\\[\\s*\\{");
+
+  private StartupTimeCheck() {}
+
+  public static void main(String[] args) throws Exception {
+    int separator = Arrays.asList(args).indexOf("--");
+    if (separator < 0 || separator == args.length - 1) {
+      System.err.println("Usage: StartupTimeCheck <runs> <base-url> -- <command...>");
+      System.exit(2);
+    }
+    int runs = separator > 0 ? Integer.parseInt(args[0]) : 5;
+    String baseUrl = separator > 1 ? args[1] : "http://localhost:8080";
+    List<String> command = List.of(Arrays.copyOfRange(args, separator + 1, args.length));
+
+    HttpClient httpClient =
+        HttpClient.newBuilder().connectTimeout(Duration.ofMillis(500)).build();
+    URI search = URI.create(baseUrl + "/api/policy-terms?size=1");
+    URI ready = URI.create(baseUrl + "/ready");
+
+    List<Long> readyTimes = new ArrayList<>();
+    List<Long> firstPages = new ArrayList<>();
+    for (int run = 1; run <= runs; run++) {
+      Path log = Files.createTempFile("startup-run-", ".log");
+      long startedAt = System.nanoTime();
+      Process process =
+          new ProcessBuilder(command)
+              .redirectErrorStream(true)
+              .redirectOutput(log.toFile())
+              .start();
+      try {
+        long readyAt = awaitOk(httpClient, ready, process, startedAt, body -> true);
+        long firstPage =
+            awaitOk(httpClient, search, process, startedAt, StartupTimeCheck::hasItems);
+        readyTimes.add(readyAt);
+        firstPages.add(firstPage);
+        System.out.printf(
+            "run %d: /ready %d ms, first non-empty page %d ms%n", run, readyAt, firstPage);
+        Files.delete(log);
+      } catch (IllegalStateException ex) {
+        System.out.printf("run %d failed: %s (output in %s)%n", run, ex.getMessage(), log);
+        System.exit(1);
+      } finally {
+        stop(process);
+      }
+    }
+    System.out.printf(
+        "/ready: median %d ms, min %d ms, max %d ms%n",
+        median(readyTimes),
+        Collections.min(readyTimes),
+        Collections.max(readyTimes));
+    System.out.printf(
+        "first non-empty page: median %d ms, min %d ms, max %d ms%n",
+        median(firstPages),
+        Collections.min(firstPages),
+        Collections.max(firstPages));
+  }
+
+  // Milliseconds from process start until uri answers 200 with a body that passes accept.
+  private static long awaitOk(
+      HttpClient httpClient, URI uri, Process process, long startedAt, Predicate<String> accept)
+      throws InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).build();
+    long deadline = startedAt + STARTUP_TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      if (!process.isAlive()) {
+        throw new IllegalStateException("process exited with " + process.exitValue());
+      }
+      try {
+        HttpResponse<String> response =
+            httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == 200 && accept.test(response.body())) {
+          return (System.nanoTime() - startedAt) / 1_000_000;
+        }
+      } catch (IOException ex) {
+        // Not listening yet.
+      }
+      Thread.sleep(POLL_MILLIS);
+    }
+    throw new IllegalStateException("no 200 from " + uri + " within " + STARTUP_TIMEOUT);
+  }
+
+  private static boolean hasItems(String body) {
+    return ITEMS.matcher(body).find();
+  }
+
+  private static void stop(Process process) throws InterruptedException {
+    process.destroy();
+    if (!process.waitFor(30, TimeUnit.SECONDS)) {
+      process.destroyForcibly().waitFor();
+    }
+  }
+
+  private static long median(List<Long> values) {
+    List<Long> sorted = new ArrayList<>(values);
+    Collections.sort(sorted);
+    return sorted.get(sorted.size() / 2);
+  }
+}
@@ -10,13 +10,14 @@ import {
   useTransition
 } from "react";
 import { usePathname, useRouter, useSearchParams } from "next/navigation";
+import type { PolicyTermDateField } from "@/lib/api";
 import { buildQueryString } from "@/lib/query-string";
 
 export type PolicyTermsUrlState = {
   q: string;
   state: string;
   status: string;
-  date_field: "effective" | "expiration";
+  date_field: PolicyTermDateField;
   date_from: string;
   date_to: string;
   page: number;
@@ -33,6 +34,13 @@ type FilterInputs = Pick<
   "q" | "state" | "status" | "date_field" | "date_from" | "date_to"
 >;
 
+const DATE_FIELD_LABELS: Record<PolicyTermDateField, string> = {
+  effective: "Effective",
+  expiration: "Expiration",
+  next_due: "Next Due",
+  last_payment: "Last Payment"
+};
+
 function buildFiltersKey(filters: FilterInputs): string {
   return `${filters.q}|${filters.state}|${filters.status}|${filters.date_field}|${filters.date_from}|${filters.date_to}`;
 }
@@ -46,7 +54,7 @@ export function PolicyTermsFilters({ params }: PolicyTermsFiltersProps) {
   const [q, setQ] = useState(params.q);
   const [stateFilter, setStateFilter] = useState(params.state);
   const [status, setStatus] = useState(params.status);
-  const [dateField, setDateField] = useState<"effective" | "expiration">(
+  const [dateField, setDateField] = useState<PolicyTermDateField>(
     params.date_field
   );
   const [dateFrom, setDateFrom] = useState(params.date_from);
@@ -140,7 +148,7 @@ export function PolicyTermsFilters({ params }: PolicyTermsFiltersProps) {
     dateFrom || dateTo
       ? {
           key: "date_range",
-          label: `${dateField === "effective" ? "Effective" : "Expiration"}: ${
+          label: `${DATE_FIELD_LABELS[dateField]}: ${
             dateFrom || "…"
           } → ${dateTo || "…"}`
         }
@@ -351,13 +359,16 @@ export function PolicyTermsFilters({ params }: PolicyTermsFiltersProps) {
             value={dateField}
             onChange={(event) => {
               markEditing();
-              setDateField(event.target.value === "effective" ? "effective" : "expiration");
+              setDateField(event.target.value as PolicyTermDateField);
             }}
             className="h-9 rounded-md border border-slate-700/90 bg-slate-950/80 px-3 text-sm text-slate-100"
             aria-label="Date field"
           >
-            <option value="effective">Date field: Effective Date</option>
-            <option value="expiration">Date field: Expiration Date</option>
+            {(Object.keys(DATE_FIELD_LABELS) as PolicyTermDateField[]).map((field) => (
+              <option key={field} value={field}>
+                Date field: {DATE_FIELD_LABELS[field]} Date
+              </option>
+            ))}
           </select>
           <input
             value={dateFrom}
@@ -2,6 +2,7 @@ import Link from "next/link";
 import { AssistantDrawerToggle } from "@/components/assistant-drawer-toggle";
 import {
   fetchPolicyTerms,
+  type PolicyTermDateField,
   type PolicyTermSearchParams,
   type PolicyTermSummary
 } from "@/lib/api";
@@ -19,8 +20,15 @@ function getParam(searchParams: SearchParams, key: string): string {
   return Array.isArray(value) ? value[0] ?? "" : value ?? "";
 }
 
-function parseDateField(value: string): "expiration" | "effective" {
-  return value === "expiration" ? "expiration" : "effective";
+const DATE_FIELDS: PolicyTermDateField[] = [
+  "effective",
+  "expiration",
+  "next_due",
+  "last_payment"
+];
+
+function parseDateField(value: string): PolicyTermDateField {
+  return DATE_FIELDS.find((field) => field === value) ?? "effective";
 }
 
 function parseUrlState(searchParams: SearchParams): PolicyTermsUrlState {
@@ -53,19 +61,6 @@ function buildPageHref(params: PolicyTermsUrlState, page: number): string {
   return query.length > 0 ? `/policy-terms?${query}` : "/policy-terms";
 }
 
-function inDateRange(value: string, from: string, to: string): boolean {
-  if (!value) {
-    return false;
-  }
-  if (from && value < from) {
-    return false;
-  }
-  if (to && value > to) {
-    return false;
-  }
-  return true;
-}
-
 function applyClientSideFilters(
   items: PolicyTermSummary[],
   filters: PolicyTermsUrlState
@@ -88,18 +83,6 @@ function applyClientSideFilters(
       return false;
     }
 
-    const hasDateRange = Boolean(filters.date_from || filters.date_to);
-    if (hasDateRange) {
-      const dateToCheck =
-        filters.date_field === "effective"
-          ? term.effectiveFromDate
-          : term.effectiveToDate;
-
-      if (!inDateRange(dateToCheck, filters.date_from, filters.date_to)) {
-        return false;
-      }
-    }
-
     return true;
   });
 }
@@ -176,6 +159,9 @@ export default async function PolicyTermsPage({
 
   const filters: PolicyTermSearchParams = {
     q: urlState.q,
+    date_field: urlState.date_field,
+    date_from: urlState.date_from,
+    date_to: urlState.date_to,
     page: urlState.page,
     size: urlState.size,
     sort: urlState.sort
@@ -220,7 +206,11 @@ export default async function PolicyTermsPage({
   const showPageScopedEmptyState = visibleItems.length === 0 && hasGlobalResults;
   const showGlobalEmptyState = visibleItems.length === 0 && !hasGlobalResults;
   const hasPreviousPage = termPage.page > 0;
-  const hasNextPage = (termPage.page + 1) * termPage.size < totalElements;
+  const hasNextPage = termPage.nextCursor !== null;
+  const totalLabel =
+    termPage.totalStrategy === "estimated"
+      ? `about ${totalElements.toLocaleString()}`
+      : `${totalElements}`;
   const previousPage = Math.max(termPage.page - 1, 0);
   const nextPage = termPage.page + 1;
   const lastPage = Math.max(termPage.totalPages - 1, 0);
@@ -249,7 +239,7 @@ export default async function PolicyTermsPage({
         <>
           <div className="mb-3 text-sm text-slate-400">
             Showing page {termPage.page + 1} of {Math.max(termPage.totalPages, 1)} (
-            {totalElements} total)
+            {totalLabel} total)
           </div>
 
           <div className="mb-3">
@@ -23,6 +23,8 @@ export type PolicyTermPage = {
   size: number;
   totalElements: number;
   totalPages: number;
+  totalStrategy: "exact" | "estimated" | "cached" | null;
+  nextCursor: string | null;
 };
 
 export type PolicyTermDetail = PolicyTermSummary & {
@@ -30,12 +32,21 @@ export type PolicyTermDetail = PolicyTermSummary & {
   updatedAt: string;
 };
 
+export type PolicyTermDateField =
+  | "effective"
+  | "expiration"
+  | "next_due"
+  | "last_payment";
+
 export type PolicyTermSearchParams = {
   q?: string;
   state?: string;
   status?: string;
   exp_from?: string;
   exp_to?: string;
+  date_field?: PolicyTermDateField;
+  date_from?: string;
+  date_to?: string;
   page?: number;
   size?: number;
   sort?: string;
@@ -116,6 +127,11 @@ export async function fetchPolicyTerms(
   if (params.status) requestParams.status = params.status;
   if (params.exp_from) requestParams.exp_from = params.exp_from;
   if (params.exp_to) requestParams.exp_to = params.exp_to;
+  if (params.date_from || params.date_to) {
+    requestParams.date_field = params.date_field ?? "expiration";
+    if (params.date_from) requestParams.date_from = params.date_from;
+    if (params.date_to) requestParams.date_to = params.date_to;
+  }
 
   return fetchJson<PolicyTermPage>("/api/policy-terms", requestParams);
 }